@@ -0,0 +1,61 @@
+package adf.gdx;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Reads the number of heap bytes allocated by the current thread.
+ * Relies on {@code com.sun.management.ThreadMXBean}, which is missing on Android and some JVMs,
+ * so {@link #isSupported()} has to be checked before use.
+ */
+public class AllocationTracker {
+  private static AllocationTracker  instance;
+  private static boolean            isResolved;
+
+  private final com.sun.management.ThreadMXBean bean;
+  private final long                threadId;
+  private final long                overhead;   // bytes allocated by a single read itself
+  private long                      reads;
+
+  private AllocationTracker(com.sun.management.ThreadMXBean bean) {
+    this.bean = bean;
+    threadId = Thread.currentThread().getId();
+    long a = bean.getThreadAllocatedBytes(threadId);
+    long b = bean.getThreadAllocatedBytes(threadId);
+    overhead = b - a;
+  }
+
+  /**
+   * @return tracker bound to the calling thread, which should be the render thread, or null if unsupported.
+   */
+  public static AllocationTracker get() {
+    if (!isResolved) {
+      isResolved = true;
+      try {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+          com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean)bean;
+          if (sunBean.isThreadAllocatedMemorySupported()) {
+            sunBean.setThreadAllocatedMemoryEnabled(true);
+            instance = new AllocationTracker(sunBean);
+          }
+        }
+      } catch (Throwable e) {
+        // either the management classes are missing or the feature is unavailable
+        instance = null;
+      }
+    }
+    return instance;
+  }
+
+  public static boolean isSupported() {
+    return get() != null;
+  }
+
+  /**
+   * @return bytes allocated by the tracked thread so far, excluding the cost of the reads,
+   * so the difference of two reads is exactly what was allocated between them.
+   */
+  public long bytes() {
+    return bean.getThreadAllocatedBytes(threadId) - overhead * reads++;
+  }
+}
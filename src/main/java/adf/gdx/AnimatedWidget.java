@@ -96,7 +96,7 @@ public class AnimatedWidget extends Widget {
    * @param eq tween equation
    */
   public void tween(float v, float d, TweenEquation eq) {
-    $tween(v, d, eq).start(uiTweenMgr);
+    $tween(v, d, eq).start(uiTweenMgrOf(this));
   }
 
   /**
@@ -105,7 +105,7 @@ public class AnimatedWidget extends Widget {
    * @param d duration
    */
   public void tween(float v, float d) {
-    $tween(v, d).start(uiTweenMgr);
+    $tween(v, d).start(uiTweenMgrOf(this));
   }
 
   /**
@@ -124,7 +124,7 @@ public class AnimatedWidget extends Widget {
    * @return tween handle
    */
   public Tween $tween(float v, float d, TweenEquation eq) {
-    uiTweenMgr.killTarget(time);
+    uiTweenMgrOf(this).killTarget(time);
     return Tween.to(time, 0, d).target(v).ease(eq);
   }
 
@@ -161,7 +161,7 @@ public class AnimatedWidget extends Widget {
     if (looped) {
       tween.repeat(-1, delay);
     }
-    tween.start(uiTweenMgr);
+    tween.start(uiTweenMgrOf(this));
     return this;
   }
 
@@ -1,5 +1,12 @@
 package adf.gdx;
 
+import static adf.gdx.BaseContext.appFloatTweens;
+import static adf.gdx.BaseContext.appTweenMgr;
+import static adf.gdx.BaseContext.appUiTweenMgr;
+import static adf.gdx.BaseContext.governor;
+import static adf.gdx.BaseContext.idle;
+import static adf.gdx.BaseContext.profiler;
+import static adf.gdx.BaseContext.updater;
 import static adf.gdx.Logger.*;
 import static adf.gdx.TweenUtil.*;
 import static adf.gdx.Util.*;
@@ -42,6 +49,7 @@ import java.util.Arrays;
  * Includes:
  * <ul>
  * <li>{@link Console}.</li>
+ * <li>{@link FrameClock}.</li>
  * <li>{@link Skin} handlers.</li>
  * <li>{@link MutableProperties}.</li>
  * <li>Preferences handlers.</li>
@@ -53,18 +61,38 @@ public abstract class BaseAppListener implements ApplicationListener {
   public static Class<? extends Actor>  actorClassWildcard; // used as the Actor class signature for tween engine
   
   public static final Console           console = new Console();
+  public static final FrameClock        clock   = new FrameClock();
   private static Skin                   skin;
   private static MutableProperties      props   = new MutableProperties();
   private static Preferences            prefs;
   protected BaseContext<?>              context;  // current context
+  protected ContextLoader               contextLoader;  // context being prepared
+  // cancelled loaders updated until they have disposed of their contexts
+  private final Array<ContextLoader>    cancelledLoaders = new Array<>();
+
+  // Contexts hidden by setContext(context, false), the least recently shown first.
+  // Once their resources exceed the budget, the least recently shown ones release them until shown again.
+  private final Array<BaseContext<?>>   hiddenContexts  = new Array<>();
+  public long                           hiddenContextsBudget  = 32 * 1024 * 1024;  // bytes
+  public int                            maxHiddenContexts     = 4;  // beyond it the least recently shown are disposed of
+
+  // Allocation check modes, a frame allocating more than the budget is either logged or fails.
+  public static final int               ALLOC_CHECK_OFF   = 0,
+                                        ALLOC_CHECK_LOG   = 1,
+                                        ALLOC_CHECK_FAIL  = 2;
+  public static long                    allocBudget;      // bytes per frame
+  private static int                    allocCheck;
+  private static AllocationTracker      allocTracker;
 
   public BaseAppListener() {}
 
   @Override public void create() {
     instance = this;
+    clock.reset();
     ShaderProgram.pedantic = false;
 
     Tween.setWaypointsLimit(10);
+    Tween.setCombinedAttributesLimit(4);  // TweenGroup.RGB
     Tween.registerAccessor(Actor.class,               new ActorAccessor());
     Tween.registerAccessor(actorClassWildcard,        new ActorAccessor());
     Tween.registerAccessor(Label.class,               new LabelAccessor());
@@ -122,6 +150,98 @@ public abstract class BaseAppListener implements ApplicationListener {
       }
     });
     registerCommand("flushprefs", args -> flushPrefs());
+    registerCommand("profile", args -> {
+      if (args.length == 0) {
+        log(profiler.report());
+      } else if (args[0].equals("on")) {
+        profiler.enable();
+      } else if (args[0].equals("off")) {
+        profiler.disable();
+      } else if (args[0].equals("reset")) {
+        profiler.reset();
+      }
+    });
+    registerCommand("quality", args -> {
+      if (args.length == 0) {
+        log(governor.toString());
+      } else if (args[0].equals("auto")) {
+        governor.setAuto(true);
+      } else {
+        int i = governor.findTier(args[0]);
+        if (i < 0) {
+          log("Unknown tier: " + args[0]);
+        } else {
+          governor.setAuto(false);
+          governor.setTier(i);
+        }
+      }
+    });
+    registerCommand("alloccheck", args -> {
+      if (args.length == 0) {
+        log("Allocation check mode " + allocCheck + ", budget = " + allocBudget);
+      } else if (args[0].equals("off")) {
+        setAllocationCheck(ALLOC_CHECK_OFF);
+      } else if (args[0].equals("log")) {
+        setAllocationCheck(ALLOC_CHECK_LOG);
+      } else if (args[0].equals("fail")) {
+        setAllocationCheck(ALLOC_CHECK_FAIL);
+      }
+    });
+    registerCommand("contexts", args -> {
+      for (BaseContext<?> c : hiddenContexts) {
+        log(String.format("%s: %d bytes%s", c.getClass().getSimpleName(), c.residentBytes(),
+            c.isReleased() ? ", released" : ""));
+      }
+      log(String.format("Hidden contexts: %d, %d/%d bytes", hiddenContexts.size, hiddenContextsBytes(),
+          hiddenContextsBudget));
+    });
+    registerCommand("idle", args -> {
+      if (args.length == 0) {
+        log("Idle detection " + (idle.isEnabled() ? "enabled" : "disabled") + (idle.isSleeping() ? ", sleeping" : ""));
+      } else if (args[0].equals("on")) {
+        idle.enable();
+      } else if (args[0].equals("off")) {
+        idle.disable();
+      }
+    });
+    registerCommand("clock", args -> {
+      if (args.length == 0) {
+        log(clock.toString());
+      } else if (args[0].equals("smooth")) {
+        clock.setSmoothing(args.length > 1 ? Float.parseFloat(args[1]) : 0);
+      } else if (args[0].equals("max") && args.length > 1) {
+        clock.maxDelta = Float.parseFloat(args[1]);
+      }
+    });
+    registerCommand("tweens", args -> {
+      if (args.length > 0 && args[0].equals("reset")) {
+        appTweenMgr.resetStats();
+        appUiTweenMgr.resetStats();
+        if (context != null) {
+          context.tweens().resetStats();
+        }
+      } else {
+        log(appTweenMgr.report());
+        log(appUiTweenMgr.report());
+        if (context != null) {
+          log(context.tweens().report());
+        }
+      }
+    });
+    registerCommand("updater", args -> log(updater.report()));
+    registerCommand("pools", args -> {
+      if (args.length > 0 && args[0].equals("reset")) {
+        Pool.resetAllStats();
+      } else if (args.length > 0 && args[0].equals("save")) {
+        if (prefsLoaded()) {
+          Pool.savePrewarmSizes();
+        } else {
+          log("No preferences to save the pool sizes to");
+        }
+      } else {
+        log(Pool.report());
+      }
+    });
     registerCommand("quit", args -> quit());
   }
 
@@ -138,28 +258,102 @@ public abstract class BaseAppListener implements ApplicationListener {
       context.dispose();
       logDone();
     }
+    disposeHiddenContexts();
     logSetup("Dispose of console");
     console.dispose();
     logDone();
   }
 
   @Override public void pause() {
+    clock.pause();
     if (context != null) {
+      context.tweens().pause();
       context.pause();
     }
+    if (prefs != null) {
+      BaseContext.saveQualityTier();
+      Pool.savePrewarmSizes();
+    }
   }
 
   @Override public void resume() {
+    clock.resume();
     if (context != null) {
+      context.tweens().resume();
       context.resume();
     }
   }
 
   @Override public void render() {
+    long allocStart = allocTracker != null ? allocTracker.bytes() : 0;
+    idle.beginFrame();
+    // the delta of the first frame after sleeping spans the whole sleep
+    if (idle.isResuming()) {
+      clock.discardNext();
+    }
+    clock.tick(Gdx.graphics.getDeltaTime());
+    Pool.tick(clock.time());
+    appTweenMgr.update(dt());
+    appFloatTweens.update(dt());
+    appUiTweenMgr.update(context != null ? context.uiDtm() : dt());
     console.update();
+    if (contextLoader != null) {
+      updateContextLoader();
+    }
+    if (cancelledLoaders.size > 0) {
+      updateCancelledLoaders();
+    }
     if (context != null) {
       context.render();
     }
+    if (allocTracker != null) {
+      checkAllocations(allocTracker.bytes() - allocStart);
+    }
+  }
+
+  /**
+   * Sets the allocation check mode. Has to be called on the rendering thread.
+   * @param mode {@link #ALLOC_CHECK_OFF}, {@link #ALLOC_CHECK_LOG} or {@link #ALLOC_CHECK_FAIL}
+   */
+  public static void setAllocationCheck(int mode) {
+    if (mode != ALLOC_CHECK_OFF && !AllocationTracker.isSupported()) {
+      warning("Allocation tracking is unsupported on this platform");
+      mode = ALLOC_CHECK_OFF;
+    }
+    allocCheck = mode;
+    allocTracker = mode != ALLOC_CHECK_OFF ? AllocationTracker.get() : null;
+    profiler.setAllocationTracker(allocTracker);
+  }
+
+  public static int allocationCheck() {
+    return allocCheck;
+  }
+
+  /**
+   * Reports the frame if it has allocated more than {@link #allocBudget}, along with the allocating frame phases.
+   * @throws IllegalStateException in {@link #ALLOC_CHECK_FAIL} mode.
+   */
+  private void checkAllocations(long bytes) {
+    if (bytes <= allocBudget) {
+      return;
+    }
+    StringBuilder sb = new StringBuilder("Frame allocated " + bytes + " bytes:");
+    long attributed = 0;
+    if (context != null) {
+      for (int i=0; i < FrameProfiler.PH_LENGTH; i++) {
+        if (profiler.allocated(i) > 0) {
+          sb.append(' ').append(FrameProfiler.phaseNames[i]).append(" = ").append(profiler.allocated(i));
+        }
+      }
+      attributed = profiler.allocated(FrameProfiler.PH_FRAME);
+    }
+    if (bytes > attributed) {
+      sb.append(" outside context = ").append(bytes - attributed);
+    }
+    if (allocCheck == ALLOC_CHECK_FAIL) {
+      throw new IllegalStateException(sb.toString());
+    }
+    warning(sb.toString());
   }
 
   @Override public void resize(int width, int height) {
@@ -168,7 +362,74 @@ public abstract class BaseAppListener implements ApplicationListener {
     }
   }
 
+  /**
+   * Starts preparing a context across frames and switches to it once it is ready.
+   * Cancels the preparation of the previous one if any.
+   * @param factory creates the context on the rendering thread.
+   * @param dispose should the current context be disposed.
+   * @return the loader to track the progress.
+   */
+  public ContextLoader prepareContext(ContextLoader.Factory factory, boolean dispose) {
+    if (contextLoader != null) {
+      contextLoader.cancel();
+      cancelledLoaders.add(contextLoader);
+    }
+    contextLoader = new ContextLoader(factory, dispose);
+    return contextLoader;
+  }
+
+  public ContextLoader prepareContext(ContextLoader.Factory factory) {
+    return prepareContext(factory, true);
+  }
+
+  /**
+   * @return the loader of the context being prepared or null.
+   */
+  public ContextLoader contextLoader() {
+    return contextLoader;
+  }
+
+  private void updateContextLoader() {
+    ContextLoader loader = contextLoader;
+    // the preparation steps need frames
+    idle.wake();
+    boolean done = false;
+    try {
+      loader.update();
+      done = true;
+    } finally {
+      // a failed loader is dropped, its context disposed of once its jobs are done
+      if (!done) {
+        loader.cancel();
+      }
+      if (loader.isCancelled() && contextLoader == loader) {
+        contextLoader = null;
+        cancelledLoaders.add(loader);
+      }
+    }
+    if (loader.isReady()) {
+      contextLoader = null;
+      setContext(loader.context(), loader.disposeCurrent(), !loader.isResized());
+    }
+  }
+
+  private void updateCancelledLoaders() {
+    // the running jobs need frames to be waited for
+    idle.wake();
+    for (int i=cancelledLoaders.size-1; i >= 0; i--) {
+      ContextLoader loader = cancelledLoaders.get(i);
+      loader.update();
+      if (loader.isDisposed()) {
+        cancelledLoaders.removeIndex(i);
+      }
+    }
+  }
+
   public void setContext(BaseContext<?> newContext, boolean dispose) {
+    setContext(newContext, dispose, true);
+  }
+
+  private void setContext(BaseContext<?> newContext, boolean dispose, boolean resize) {
     if (context != null) {
       if (dispose) {
         logSetup("Dispose of context " + newContext.getClass().getSimpleName());
@@ -176,19 +437,79 @@ public abstract class BaseAppListener implements ApplicationListener {
         logDone();
       } else {
         logSetup("Hide context " + newContext.getClass().getSimpleName());
+        context.tweens().pause();
         context.hide();
+        hiddenContexts.removeValue(context, true);
+        hiddenContexts.add(context);
         logDone();
       }
     }
 
     context = newContext;
+    governor.resetWindow();
+    idle.wake();
 
     if (context != null) {
+      hiddenContexts.removeValue(context, true);
+      if (context.isReleased()) {
+        context.restoreResources();
+        resize = true;
+      }
       logSetup("Set context " + newContext.getClass().getSimpleName());
       context.contextChangeSuccess();
+      context.tweens().resume();
       context.show();
-      context.resize();
+      if (resize) {
+        context.resize();
+      }
     }
+    trimHiddenContexts();
+  }
+
+  /**
+   * @return contexts hidden by {@link #setContext(BaseContext, boolean)}, the least recently shown first.
+   */
+  public Array<BaseContext<?>> hiddenContexts() {
+    return hiddenContexts;
+  }
+
+  /**
+   * @return estimated size of the resources held by the hidden contexts in bytes.
+   */
+  public long hiddenContextsBytes() {
+    long bytes = 0;
+    for (int i=0; i < hiddenContexts.size; i++) {
+      bytes += hiddenContexts.get(i).residentBytes();
+    }
+    return bytes;
+  }
+
+  /**
+   * Disposes of the least recently shown contexts over {@link #maxHiddenContexts} and
+   * makes the rest release their resources until they fit in {@link #hiddenContextsBudget}.
+   */
+  public void trimHiddenContexts() {
+    while (hiddenContexts.size > maxHiddenContexts) {
+      BaseContext<?> c = hiddenContexts.removeIndex(0);
+      logSetup("Dispose of hidden context " + c.getClass().getSimpleName());
+      c.dispose();
+      logDone();
+    }
+    long bytes = hiddenContextsBytes();
+    for (int i=0; i < hiddenContexts.size && bytes > hiddenContextsBudget; i++) {
+      BaseContext<?> c = hiddenContexts.get(i);
+      bytes -= c.residentBytes();
+      c.releaseResources();
+    }
+  }
+
+  public void disposeHiddenContexts() {
+    for (BaseContext<?> c : hiddenContexts) {
+      logSetup("Dispose of hidden context " + c.getClass().getSimpleName());
+      c.dispose();
+      logDone();
+    }
+    hiddenContexts.clear();
   }
 
   public void setContext(BaseContext<?> context) {
@@ -436,6 +757,13 @@ public abstract class BaseAppListener implements ApplicationListener {
     logDone();
   }
 
+  /**
+   * @return have the preferences been loaded.
+   */
+  public static boolean prefsLoaded() {
+    return prefs != null;
+  }
+
   /**
    * @return do preferences contain the key entry.
    */
@@ -537,10 +865,10 @@ public abstract class BaseAppListener implements ApplicationListener {
   }
 
   /**
-   * @return rendering time delta.
+   * @return rendering time delta provided by the {@link #clock}.
    */
   public static float dt() {
-    return Gdx.graphics.getDeltaTime();
+    return clock.delta();
   }
 
   /**
@@ -1,6 +1,7 @@
 package adf.gdx;
 
 import static adf.gdx.BaseAppListener.*;
+import static adf.gdx.FrameProfiler.*;
 import static adf.gdx.Logger.*;
 import static adf.gdx.TweenUtil.*;
 import static adf.gdx.MathUtil.*;
@@ -39,6 +40,7 @@ import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.Touchable;
+import com.badlogic.gdx.utils.Array;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -46,11 +48,13 @@ import java.util.Map;
 /**
  * Includes:
  * <ul>
- * <li>Three instances of {@link TweenManager}:<ul><li>General purpose</li>
- * <li>Timescaled</li><li>UI</li></ul></li>
+ * <li>{@link TweenDomain} with three instances of {@link TweenManager}:<ul><li>General purpose</li>
+ * <li>Timescaled</li><li>UI</li></ul> and timing wheels of the real and the timescaled time</li>
  * <li>Adaptive viewport adjustments</li>
  * <li>UI layers:<ul><li>Overlay</li><li>Game</li><li>Menus</li></ul></li>
- * <li>Benchmark</li>
+ * <li>Benchmark and adaptive quality tiers</li>
+ * <li>Frame profiler</li>
+ * <li>Idle frame detection</li>
  * <li>Graphics and postprocessing adjustments</li>
  * <li>Blur</li>
  * <li>Tween handlers:<ul><li>Timescale</li><li>Sound volume</li><li>Camera</li>
@@ -59,20 +63,67 @@ import java.util.Map;
  * @param <AL> a {@link BaseAppListener} instance.
  */
 public abstract class BaseContext<AL extends BaseAppListener> implements InputProcessor, GestureListener {
-  public static final TweenManager    tweenMgr            = new TweenManager();  // general tween manager
-  public static final TweenManager    tscTweenMgr         = new TweenManager();  // timescaled tween manager
-  public static final TweenManager    uiTweenMgr          = new TweenManager();  // UI tween manager
+  // App-level tween managers, updated regardless of the current context, for the effects that aren't owned by any.
+  // Context tweens belong to its own TweenDomain.
+  public static final IndexedTweenManager appTweenMgr    = new IndexedTweenManager("app tweens");  // general tween manager
+  // UI tween manager, scaled by the current context
+  public static final IndexedTweenManager appUiTweenMgr  = new IndexedTweenManager("app ui tweens");
+  public static final FloatTweens         appFloatTweens = new FloatTweens();
 
   public static final Updater         updater             = new Updater();
+  public static final FrameProfiler   profiler            = new FrameProfiler();
+  public static final QualityGovernor governor            = new QualityGovernor();
+  public static final IdleDetector    idle                = new IdleDetector();
 
-  public static void addUpdatable(Updatable a) {
-    updater.add(a);
+  /**
+   * @return handle of the registration.
+   * @see Updater#add(Updatable)
+   */
+  public static int addUpdatable(Updatable a) {
+    return updater.add(a);
+  }
+
+  /**
+   * @return handle of the registration.
+   * @see Updater#add(Updatable, int, int)
+   */
+  public static int addUpdatable(Updatable a, int phase, int priority) {
+    return updater.add(a, phase, priority);
   }
 
   public static void removeUpdatable(Updatable a) {
     updater.remove(a);
   }
 
+  public static void removeUpdatable(int h) {
+    updater.remove(h);
+  }
+
+  /**
+   * @return context whose UI stage the actor is on, or null if it isn't on any.
+   */
+  public static BaseContext<?> contextOf(Actor actor) {
+    Stage stage = actor.getStage();
+    return stage instanceof ContextStage ? ((ContextStage)stage).context : null;
+  }
+
+  /**
+   * Registers the updatable until the context is disposed.
+   * @return handle of the registration.
+   * @see Updater#bind(int, Object)
+   */
+  public int addContextUpdatable(Updatable a) {
+    return updater.bind(updater.add(a), this);
+  }
+
+  /**
+   * Registers the updatable to run in the phase until the context is disposed.
+   * @return handle of the registration.
+   */
+  public int addContextUpdatable(Updatable a, int phase, int priority) {
+    return updater.bind(updater.add(a, phase, priority), this);
+  }
+
   // The lesser screen dimension which determines the larger dimension by scaling it after the aspect ratio.
   // It can only be changed once during lifetime of the app, preferably at the very start.
   private static float                ldm                 = 720;
@@ -109,8 +160,36 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
                                       UI_ALL              = sumFlags(UI_MENUS_FL),
                                       UI_GENERAL          = UI_GAME_FL | UI_MENUS_FL;
 
+  // Screen transitions, started from templates instead of building timelines.
+  // Targets: the blackouts, then the groups of the layers faded out and in. Values: the out and in durations.
+  private static final TweenTemplate  fadeOutTemplate     = fadeOutSteps(new TweenTemplate(2, 1, 0), 1, 0);
+  private static final TweenTemplate  fadeInTemplate      = fadeInSteps(new TweenTemplate(2, 1, 0), 1, 0);
+  private static final TweenTemplate  fadeToTemplate      = fadeOutSteps(new TweenTemplate(2, 1, 1), 1, 0).call(0);
+  private static final TweenTemplate  fadeOutInTemplate   = fadeInSteps(fadeOutSteps(new TweenTemplate(3, 2, 1), 1, 0)
+                                                              .call(0), 2, 1);
+
+  private static TweenTemplate fadeOutSteps(TweenTemplate t, int layers, int d) {
+    int zero = t.constant(0), one = t.constant(1);
+    return t.beginParallel()
+              .tween(0, ActorAccessor.A, d, Soft.INOUT, one)
+              .tween(layers, TweenGroup.A, d, Soft.INOUT, one, zero)
+            .end();
+  }
+
+  private static TweenTemplate fadeInSteps(TweenTemplate t, int layers, int d) {
+    int zero = t.constant(0), one = t.constant(1);
+    return t.set(0, ActorAccessor.A, one)
+            .set(layers, TweenGroup.A, one, zero)
+            .beginParallel()
+              .tween(0, ActorAccessor.A, d, Soft.INOUT, zero)
+              .tween(layers, TweenGroup.A, d, Soft.INOUT, one, one)
+            .end();
+  }
+
   // Benchmark is used to determine whether the device is capable of using advanced performance features such as postprocessing.
+  // Its result only picks the initial quality tier, which is then maintained by the governor.
   public static final String          benchmarkKey        = "is_benchmarked";
+  public static final String          qualityTierKey      = "quality_tier";
   public static float                 benchmarkDuration   = 3;  // duration of benchmark in seconds
   private static boolean              isBenchmarked;      // assigned whether when the benchmark info is loaded or when benchmark is done
   private static boolean              benchmarkTesting;   // whether it is running or not
@@ -122,6 +201,21 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
       isBenchmarked = true;
       setAdvancedPerformance(prefb(benchmarkKey));
     }
+    // the last tier chosen by the governor is more recent than the benchmark verdict
+    if (prefsContain(qualityTierKey)) {
+      governor.setTier(prefi(qualityTierKey));
+      log("Quality tier " + governor.tier());
+    }
+  }
+
+  /**
+   * Stores the current quality tier to start with it on the next launch.
+   */
+  public static void saveQualityTier() {
+    if (!prefsContain(qualityTierKey) || prefi(qualityTierKey) != governor.tierIndex()) {
+      putPrefInt(qualityTierKey, governor.tierIndex());
+      flushPrefs();
+    }
   }
 
   protected static boolean isBenchmarked() {
@@ -138,31 +232,41 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
 
   // Indicates whether the app has to run without any advanced graphical features, such as both postprocessing and texture filtering other than nearest.
   private static boolean              simpleGraphics;
-  private static boolean              advancedPerformance;  // indicates whether the app may use advanced performance features, such as GPU
 
   public boolean simpleGraphics() {
     return simpleGraphics;
   }
 
+  /**
+   * @return does the current quality tier allow advanced performance features, such as postprocessing.
+   */
   public boolean advancedPerformance() {
-    return advancedPerformance;
+    return governor.postprocess();
   }
 
   private static void setAdvancedPerformance(boolean v) {
     log("Advanced performance " + (v ? "enabled" : "disabled"));
-    advancedPerformance = v;
+    governor.setTier(v ? governor.findTier("high") : governor.firstBasicTier());
   }
 
   protected final AL                  al;                   // app listener
+  protected final TweenDomain         tweens                = new TweenDomain();
+  protected final IndexedTweenManager tweenMgr              = tweens.tweenMgr;     // general tween manager
+  protected final IndexedTweenManager tscTweenMgr           = tweens.tscTweenMgr;  // timescaled tween manager
+  protected final IndexedTweenManager uiTweenMgr            = tweens.uiTweenMgr;   // UI tween manager
+  protected final FloatTweens         floatTweens           = tweens.floatTweens;  // scalar fades
+  protected final TimerWheel          timers                = tweens.timers;       // timers of the real time
+  protected final TimerWheel          tscTimers             = tweens.tscTimers;    // timescaled timers
   protected final SpriteBatch         batch                 = new SpriteBatch();
   protected final OrthographicCamera  camera                = new OrthographicCamera();
   protected final Vector3             camBasePos            = new Vector3();
   protected final AdaptiveViewport    viewport              = new AdaptiveViewport(camera);
   protected final ShapeRenderer       shapeRenderer         = new ShapeRenderer();
   protected final AdaptiveViewport    uiViewport            = new AdaptiveViewport();
-  protected final Stage               ui                    = new Stage(uiViewport);
+  protected final Stage               ui                    = new ContextStage(uiViewport, this);
   protected final ShapeRenderer       uiShapeRenderer       = new ShapeRenderer();
   protected final Group[]             uiLayers              = {new Group(), new Group(), new Group()};
+  private final TweenGroup[]          uiLayerGroups         = new TweenGroup[1 << UI_LENGTH];  // by flags
   protected final Overlay             ol                    = new Overlay(this);
   protected final Blur                blur                  = new Blur();
   protected final Tapper              tapper                = new Tapper(this);
@@ -171,6 +275,15 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
   protected final Vector2             touch                 = new Vector2();
   protected FrameBuffer               frameBuffer;
   protected boolean                   drawToFrameBuffer;
+  private QualityGovernor.Tier        qualityTier;          // the tier applied to this context
+
+  // Fixed-step mode: the timescaled simulation advances in equal ticks, drawing interpolates between them.
+  private boolean                     fixedStep;
+  private float                       fixedStepTime         = 1 / 60f;  // tick duration in timescaled seconds
+  private int                         maxTicks              = 5;        // catch-up ticks per frame
+  private float                       accumulator;                      // timescaled time not yet simulated
+  private int                         lastTicks;                        // ticks run during the last frame
+  private float                       alpha                 = 1;        // interpolation between the last two ticks
 
   private final MutableFloat          camShake              = new MutableFloat(0);  // camera shake amplitude
   private final MutableFloat          timescale             = new MutableFloat(1);  // time multiplier
@@ -180,6 +293,11 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
   private final Map<String, Sound>    sfxList               = new HashMap<>();
   private final MutableFloat          musicVolume           = new MutableFloat(1);
   private final Map<String, Music>    musicList             = new HashMap<>();
+  private final Array<Music>          musicItems            = new Array<>(false, 16, Music.class);  // iterated without allocation
+  // loaded files, remembered to load them again after the resources are released
+  private final Map<String, FileHandle> sfxFiles            = new HashMap<>();
+  private final Map<String, FileHandle> musicFiles          = new HashMap<>();
+  private boolean                     isReleased;
   private boolean                     updatingVolume;
   private final TweenCallback         masterVolumeCallback  = (type, source) -> updatingVolume = type == BEGIN;
 
@@ -205,8 +323,10 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
     }
     // overlay shouldn't receive input
     uiLayers[UI_OVERLAY].setTouchable(Touchable.disabled);
+    blur.setTweenDomain(tweens);
     timestamp.set();
-    // stack all input listeners
+    // stack all input listeners, the idle detector only watches
+    inputMultiplexer.addProcessor(idle);
     inputMultiplexer.addProcessor(ui);
     inputMultiplexer.addProcessor(this);
     inputMultiplexer.addProcessor(new GestureDetector(this));
@@ -234,7 +354,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
 
   protected void updateBenchmark() {
     if (benchmarkTesting) {
-      benchmarkTime += dt();
+      benchmarkTime += clock.rawDelta();
       if (benchmarkTime >= 1) {
         benchmarkFrames++;
       }
@@ -244,6 +364,25 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
     }
   }
 
+  /**
+   * Applies the quality tier chosen by the {@link #governor}.
+   * Called before the frame once the tier differs from the one applied to this context.
+   */
+  protected void applyQualityTier(QualityGovernor.Tier tier) {
+    log("Quality tier " + tier);
+    boolean rebuildBlur = !firstResize && (tier.resDiv != blur.resDiv() || tier.format != blur.format());
+    blur.setResDiv(tier.resDiv).setIters(tier.iters).setFormat(tier.format);
+    if (rebuildBlur) {
+      blur.resize(fbWidth(), fbHeight());
+    }
+    if (tier.simpleGraphics && !simpleGraphics) {
+      enableSimpleGraphics();
+    } else if (!tier.simpleGraphics && simpleGraphics) {
+      disableSimpleGraphics();
+    }
+    qualityTier = tier;
+  }
+
   /**
    * Disables advanced features and changes the texture atlases' filter to nearest.
    */
@@ -323,6 +462,26 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
     al.setContext(context, true);
   }
 
+  /**
+   * Prepares another context across frames and changes this context to it once it is ready.
+   * @param dispose should this context be disposed.
+   * @see ContextLoader
+   */
+  public ContextLoader prepareContext(ContextLoader.Factory factory, boolean dispose) {
+    return al.prepareContext(factory, dispose);
+  }
+
+  public ContextLoader prepareContext(ContextLoader.Factory factory) {
+    return al.prepareContext(factory, true);
+  }
+
+  /**
+   * Queues the loading work of this context when it is prepared by a {@link ContextLoader}, e.g.
+   * file reads and parsing with {@link ContextLoader#async(Runnable)} and loading of sounds and textures
+   * with {@link ContextLoader#step(Runnable)}. Called on the rendering thread after construction.
+   */
+  protected void prepare(ContextLoader loader) {}
+
   public float screenWidth() {
     return landscapeOrientation() ? ldm * screenRatio() : ldm;
   }
@@ -443,21 +602,123 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
     uiLayers[UI_GAME].setPosition(0, 0);
   }
 
+  /**
+   * Enables fixed-step mode: the timescaled tween manager, the {@link Updater#SIMULATION} phase of the updater and
+   * {@link #tick(float)} are run in ticks of the given duration, up to {@link #setMaxTicks(int)} per frame, and
+   * {@link #draw(float)} receives the interpolation alpha between the last two ticks.
+   * The other phases of the updater are still run once per frame, the {@link Updater#INPUT} in real time and the
+   * {@link Updater#PRESENTATION} on the timescaled frame delta.
+   * @param step tick duration in timescaled seconds
+   */
+  public void enableFixedStep(float step) {
+    fixedStep = true;
+    fixedStepTime = step;
+    accumulator = 0;
+  }
+
+  public void disableFixedStep() {
+    fixedStep = false;
+    alpha = 1;
+  }
+
+  public boolean isFixedStep() {
+    return fixedStep;
+  }
+
+  /**
+   * @return tick duration in timescaled seconds.
+   */
+  public float fixedStepTime() {
+    return fixedStepTime;
+  }
+
+  /**
+   * Sets the maximum number of ticks run per frame. The time beyond it is dropped, so a long frame,
+   * e.g. after a GC pause, slows the simulation down instead of making the following frames even longer.
+   */
+  public void setMaxTicks(int v) {
+    maxTicks = v;
+  }
+
+  public int maxTicks() {
+    return maxTicks;
+  }
+
+  /**
+   * @return number of ticks run during the last frame.
+   */
+  public int lastTicks() {
+    return lastTicks;
+  }
+
+  /**
+   * @return interpolation alpha between the previous and the current tick in range [0, 1), 1 if fixed step is disabled.
+   */
+  public float alpha() {
+    return alpha;
+  }
+
+  /**
+   * Advances the simulation, which is timescaled.
+   * Called once per frame with {@link #dtm()} or, if fixed step is enabled, once per tick with the tick duration.
+   */
+  protected void tick(float delta) {}
+
+  /**
+   * Runs the timescaled part of the update, either once with the frame delta or in fixed ticks.
+   */
+  private void simulate() {
+    if (!fixedStep) {
+      tscTweenMgr.update(dtm());
+      tscTimers.update(dtm());
+      updater.update(dtm(), Updater.SIMULATION, Updater.PRESENTATION);
+      tick(dtm());
+      lastTicks = 1;
+      return;
+    }
+    accumulator += dtm();
+    int n = 0;
+    while (accumulator >= fixedStepTime && n < maxTicks) {
+      tscTweenMgr.update(fixedStepTime);
+      tscTimers.update(fixedStepTime);
+      updater.update(fixedStepTime, Updater.SIMULATION, Updater.SIMULATION);
+      tick(fixedStepTime);
+      accumulator -= fixedStepTime;
+      n++;
+    }
+    // only the simulation follows the ticks, the presentation is timescaled but run once per frame
+    updater.update(dtm(), Updater.PRESENTATION, Updater.PRESENTATION);
+    if (accumulator >= fixedStepTime) {
+      accumulator %= fixedStepTime;
+    }
+    lastTicks = n;
+    alpha = accumulator / fixedStepTime;
+  }
+
   protected void update() {
+    profiler.begin(PH_TWEENS);
     tweenMgr.update(dt());
-    tscTweenMgr.update(dtm());
+    floatTweens.update(dt());
+    timers.update(dt());
     uiTweenMgr.update(uiDtm());
-    updater.update();
+    profiler.end(PH_TWEENS);
+    profiler.begin(PH_UPDATER);
+    // the input phase is real-time, so that holds are still checked in slow motion or while paused
+    updater.update(dt(), Updater.INPUT, Updater.INPUT);
+    simulate();
+    profiler.end(PH_UPDATER);
 
     shapeRenderer.setProjectionMatrix(camera.combined);
+    profiler.begin(PH_ACT);
     ui.act();
+    profiler.end(PH_ACT);
     uiShapeRenderer.setProjectionMatrix(ui.getCamera().combined);
     updateInput();
 
     // music has to be manually updated when is changed through transitions
     if (updatingVolume) {
-      for (Map.Entry<String, Music> e : musicList.entrySet()) {
-        e.getValue().setVolume(musicVolume());
+      for (int i=0; i < musicItems.size; i++) {
+        musicItems.items[i].setVolume(musicVolume());
       }
     }
   }
@@ -471,7 +732,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
   }
 
   protected boolean doPostprocess() {
-    return benchmarkTesting || (blur.isActive() && advancedPerformance && !simpleGraphics);
+    return benchmarkTesting || (blur.isActive() && governor.postprocess() && !simpleGraphics);
   }
 
   protected void prepareDraw() {
@@ -497,6 +758,14 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
 
   protected void draw() {}
 
+  /**
+   * Called instead of {@link #draw()} to let the drawing interpolate between the last two ticks in fixed-step mode.
+   * @param alpha see {@link #alpha()}
+   */
+  protected void draw(float alpha) {
+    draw();
+  }
+
   /**
    * Called after {@link #draw()}.
    */
@@ -524,7 +793,14 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
   }
 
   public void render() {
+    long frameStart = System.nanoTime();
+    if (qualityTier != governor.tier()) {
+      applyQualityTier(governor.tier());
+    }
+    profiler.begin(PH_FRAME);
+    profiler.begin(PH_UPDATE);
     update();
+    profiler.end(PH_UPDATE);
     setCameraToOrtho(false);
     viewport.apply();
     shakeCamera();
@@ -535,32 +811,76 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
     if (drawToFrameBuffer) {
       frameBuffer.begin();
     }
+    profiler.begin(PH_PREPARE);
     prepareDraw();
+    profiler.end(PH_PREPARE);
+    profiler.begin(PH_DRAW);
     clearScreen();
     batch.begin();
     drawPre();
-    draw();
+    draw(alpha);
     drawPost();
     if (drawDebug) {
       drawDebug();
     }
     batch.end();
+    profiler.end(PH_DRAW);
+    profiler.begin(PH_FINALIZE);
     finalizeDraw();
+    profiler.end(PH_FINALIZE);
     if (drawToFrameBuffer) {
       frameBuffer.end();
     }
 
+    profiler.begin(PH_UI);
     drawUi();
+    profiler.end(PH_UI);
     resetCameraPos();
+    profiler.begin(PH_BENCHMARK);
     updateBenchmark();
+    profiler.end(PH_BENCHMARK);
+    profiler.end(PH_FRAME);
+    // the governor measures the real intervals, the first frame after sleeping isn't representative
+    if (!benchmarkTesting && !idle.isResuming()) {
+      governor.update(clock.rawDelta(), System.nanoTime() - frameStart);
+    }
+    idle.endFrame(isIdle());
+  }
+
+  /**
+   * @return has the frame been idle, i.e. there are no running tweens, active updatables, actor actions,
+   * active registered activities, and the context is not animating. The input is checked by {@link #idle}.
+   */
+  public boolean isIdle() {
+    return !benchmarkTesting
+        && tweens.size() == 0
+        && appTweenMgr.size() == 0
+        && appUiTweenMgr.size() == 0
+        && appFloatTweens.size() == 0
+        && !updater.isActive()
+        && !hasActions(ui.getRoot())
+        && !idle.activitiesActive()
+        && !isAnimating();
+  }
+
+  /**
+   * @return is anything drawn changing regardless of tweens, updatables and actions, e.g. a shader animation.
+   * Prevents the idle rendering stop.
+   */
+  protected boolean isAnimating() {
+    return false;
   }
 
   public void dispose() {
+    tweens.killAll();
+    updater.removeOwner(this);
     batch.dispose();
     shapeRenderer.dispose();
     ui.dispose();
     uiShapeRenderer.dispose();
-    frameBuffer.dispose();
+    if (frameBuffer != null) {
+      frameBuffer.dispose();
+    }
     blur.dispose();
     for (Map.Entry<String, Sound> e : sfxList.entrySet()) {
       e.getValue().dispose();
@@ -596,6 +916,75 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
     logDone();
   }
 
+  /**
+   * @return estimated size of the releasable resources in bytes: frame buffers and sounds, which are
+   * counted by their file size.
+   */
+  public long residentBytes() {
+    long bytes = blur.residentBytes();
+    if (frameBuffer != null && !firstResize) {
+      bytes += (long)frameBuffer.getWidth() * frameBuffer.getHeight() * bytesPerPixel(Format.RGB888);
+    }
+    for (FileHandle file : sfxFiles.values()) {
+      bytes += file.length();
+    }
+    return bytes;
+  }
+
+  /**
+   * Disposes of the frame buffers, sounds and music of the hidden context.
+   * They are restored by {@link #restoreResources()} and the following {@link #resize()}.
+   * Music playback positions are lost.
+   */
+  public void releaseResources() {
+    if (isReleased) {
+      return;
+    }
+    logSetup("Release resources of " + getClass().getSimpleName());
+    isReleased = true;
+    if (!firstResize) {
+      frameBuffer.dispose();
+      frameBuffer = null;
+      firstResize = true;
+    }
+    blur.release();
+    for (Sound sound : sfxList.values()) {
+      sound.dispose();
+    }
+    sfxList.clear();
+    for (int i=0; i < musicItems.size; i++) {
+      musicItems.items[i].dispose();
+    }
+    musicList.clear();
+    musicItems.clear();
+    logDone();
+  }
+
+  /**
+   * Loads the released sounds and music again. The frame buffers are created by the following {@link #resize()}.
+   */
+  public void restoreResources() {
+    if (!isReleased) {
+      return;
+    }
+    logSetup("Restore resources of " + getClass().getSimpleName());
+    isReleased = false;
+    for (Map.Entry<String, FileHandle> e : sfxFiles.entrySet()) {
+      sfxList.put(e.getKey(), Gdx.audio.newSound(e.getValue()));
+    }
+    for (Map.Entry<String, FileHandle> e : musicFiles.entrySet()) {
+      Music music = Gdx.audio.newMusic(e.getValue());
+      music.setVolume(musicVolume());
+      musicList.put(e.getKey(), music);
+      musicItems.add(music);
+    }
+    logDone();
+  }
+
+  public boolean isReleased() {
+    return isReleased;
+  }
+
   /**
    * Used by {@link BaseAppListener#setContext(BaseContext, boolean)}.
    */
@@ -610,6 +999,13 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
   public void hide() {
   }
 
+  /**
+   * @return tween managers of this context.
+   */
+  public TweenDomain tweens() {
+    return tweens;
+  }
+
   public void pause() {
   }
 
@@ -656,6 +1052,36 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
     return $setTimer(d, r, cb).start(tweenMgr);
   }
 
+  /**
+   * Starts a timer that calls the callback once the delay is over.
+   * @param d delay
+   * @param cb callback
+   * @return timer handle
+   * @see TimerWheel
+   */
+  public int setTimer(float d, Callback cb) {
+    return timers.schedule(d, cb);
+  }
+
+  /**
+   * Starts a timer that calls the callback every interval and repeats the specified number of times.
+   * @param d interval
+   * @param r repetition, {@link Tween#INFINITY} to repeat until cancelled
+   * @param cb callback
+   * @return timer handle
+   */
+  public int setTimer(float d, int r, Callback cb) {
+    return timers.schedule(d, d, r, cb);
+  }
+
+  /**
+   * Cancels the timer started by {@code setTimer} without calling its callback.
+   * @param h timer handle
+   */
+  public void cancelTimer(int h) {
+    timers.cancel(h);
+  }
+
   /**
    * Starts a timer counted by the timescale that calls the callback at start and end.
    * @param d delay
@@ -678,6 +1104,36 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
     return $setTimer(d, r, cb).start(tscTweenMgr);
   }
 
+  /**
+   * Starts a timer counted by the timescale that calls the callback once the delay is over.
+   * @param d delay
+   * @param cb callback
+   * @return timer handle
+   */
+  public int setTimescaledTimer(float d, Callback cb) {
+    return tscTimers.schedule(d, cb);
+  }
+
+  /**
+   * Starts a timer counted by the timescale that calls the callback every interval and repeats the specified
+   * number of times.
+   * @param d interval
+   * @param r repetition, {@link Tween#INFINITY} to repeat until cancelled
+   * @param cb callback
+   * @return timer handle
+   */
+  public int setTimescaledTimer(float d, int r, Callback cb) {
+    return tscTimers.schedule(d, d, r, cb);
+  }
+
+  /**
+   * Cancels the timer started by {@code setTimescaledTimer} without calling its callback.
+   * @param h timer handle
+   */
+  public void cancelTimescaledTimer(int h) {
+    tscTimers.cancel(h);
+  }
+
   /**
    * Creates a timer handle that calls the callback at start and end.
    * @param d duration
@@ -714,7 +1170,8 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param d duration
    */
   public void fadeCamShake(float v, float d) {
-    $fadeCamShake(v, d).start(tweenMgr);
+    tweenMgr.killTarget(camShake);
+    floatTweens.to(camShake, v, d, Soft.INOUT);
   }
 
   /**
@@ -722,7 +1179,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param v value
    */
   public void fadeCamShake(float v) {
-    $fadeCamShake(v).start(tweenMgr);
+    fadeCamShake(v, C_D);
   }
   
   /**
@@ -731,6 +1188,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public void setCamShake(float v) {
     tweenMgr.killTarget(camShake);
+    floatTweens.killTarget(camShake);
     camShake.setValue(v);
   }
 
@@ -754,7 +1212,8 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param d duration
    */
   public void fadeTimescale(float v, float d) {
-    $fadeTimescale(v, d).start(tweenMgr);
+    tweenMgr.killTarget(timescale);
+    floatTweens.to(timescale, v, d, Soft.INOUT);
   }
 
   /**
@@ -762,7 +1221,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param v value
    */
   public void fadeTimescale(float v) {
-    $fadeTimescale(v).start(tweenMgr);
+    fadeTimescale(v, C_D);
   }
 
   /**
@@ -771,6 +1230,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public void setTimescale(float v) {
     tweenMgr.killTarget(timescale);
+    floatTweens.killTarget(timescale);
     timescale.setValue(v);
   }
 
@@ -794,7 +1254,8 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param d duration
    */
   public void fadeUiTimescale(float v, float d) {
-    $fadeUiTimescale(v, d).start(tweenMgr);
+    tweenMgr.killTarget(uiTimescale);
+    floatTweens.to(uiTimescale, v, d, Soft.INOUT);
   }
 
   /**
@@ -802,7 +1263,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param v value
    */
   public void fadeUiTimescale(float v) {
-    $fadeUiTimescale(v).start(tweenMgr);
+    fadeUiTimescale(v, C_D);
   }
 
   /**
@@ -811,6 +1272,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public void setUiTimescale(float v) {
     tweenMgr.killTarget(uiTimescale);
+    floatTweens.killTarget(uiTimescale);
     uiTimescale.setValue(v);
   }
 
@@ -821,6 +1283,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
     logSetup("Load sounds " + arrToStrf("'%s'$|, ", files));
     for (FileHandle file : files) {
       sfxList.put(file.nameWithoutExtension(), Gdx.audio.newSound(file));
+      sfxFiles.put(file.nameWithoutExtension(), file);
     }
     logDone();
   }
@@ -859,6 +1322,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
       e.getValue().dispose();
     }
     sfxList.clear();
+    sfxFiles.clear();
     logDone();
   }
 
@@ -871,7 +1335,12 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
     for (FileHandle file : files) {
       Music music = Gdx.audio.newMusic(file);
       music.setVolume(musicVolume());
-      musicList.put(file.nameWithoutExtension(), music);
+      Music replaced = musicList.put(file.nameWithoutExtension(), music);
+      musicFiles.put(file.nameWithoutExtension(), file);
+      if (replaced != null) {
+        musicItems.removeValue(replaced, true);
+      }
+      musicItems.add(music);
     }
     logDone();
   }
@@ -913,6 +1382,8 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
       e.getValue().dispose();
     }
     musicList.clear();
+    musicItems.clear();
+    musicFiles.clear();
     logDone();
   }
 
@@ -934,7 +1405,8 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param d duration
    */
   public void fadeSoundVolume(float v, float d) {
-    $tweenMasterVolume(v, d).start(tweenMgr);
+    tweenMgr.killTarget(soundVolume);
+    floatTweens.to(soundVolume, v, d, Soft.INOUT, masterVolumeCallback, BEGIN|COMPLETE);
   }
 
   /**
@@ -942,7 +1414,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param v value
    */
   public void fadeSoundVolume(float v) {
-    $tweenMasterVolume(v).start(tweenMgr);
+    fadeSoundVolume(v, C_MD);
   }
 
   /**
@@ -951,6 +1423,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public void setSoundVolume(float v) {
     tweenMgr.killTarget(soundVolume);
+    floatTweens.killTarget(soundVolume);
     soundVolume.setValue(v);
   }
 
@@ -967,7 +1440,8 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param d duration
    */
   public void fadeSfxVolume(float v, float d) {
-    $fadeSfxVolume(v, d).start(tweenMgr);
+    tweenMgr.killTarget(sfxVolume);
+    floatTweens.to(sfxVolume, v, d, Soft.INOUT);
   }
 
   /**
@@ -975,7 +1449,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param v value
    */
   public void fadeSfxVolume(float v) {
-    $fadeSfxVolume(v).start(tweenMgr);
+    fadeSfxVolume(v, C_MD);
   }
 
   /**
@@ -984,6 +1458,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public void setSfxVolume(float v) {
     tweenMgr.killTarget(sfxVolume);
+    floatTweens.killTarget(sfxVolume);
     sfxVolume.setValue(v);
   }
 
@@ -997,7 +1472,8 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param d duration
    */
   public void tweenMusicVolume(float v, float d) {
-    $tweenMusicVolume(v, d).start(tweenMgr);
+    tweenMgr.killTarget(musicVolume);
+    floatTweens.to(musicVolume, v, d, Soft.INOUT, masterVolumeCallback, BEGIN|COMPLETE);
   }
 
   /**
@@ -1005,7 +1481,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param v value
    */
   public void tweenMusicVolume(float v) {
-    $tweenMusicVolume(v).start(tweenMgr);
+    tweenMusicVolume(v, C_MD);
   }
 
   /**
@@ -1014,6 +1490,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public void setMusicVolume(float v) {
     tweenMgr.killTarget(musicVolume);
+    floatTweens.killTarget(musicVolume);
     musicVolume.setValue(clamp(v,0,1));
   }
 
@@ -1191,7 +1668,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param a alpha
    */
   public void fadeUiLayers(int fl, float a) {
-    $fadeUiLayers(fl, a, C_D).start(tweenMgr);
+    fadeUiLayers(fl, a, C_D);
   }
 
   /**
@@ -1200,14 +1677,51 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param a alpha
    */
   public void setUiLayersAlpha(int fl, float a) {
-  for (int i = 0; i < UI_LENGTH; i++) {
-    if (hasFlag(fl, 1<<i)) {
-        tweenMgr.killTarget(uiLayers[i], ActorAccessor.A);
+    killUiLayers(fl);
+    for (int i=0; i < UI_LENGTH; i++) {
+      if (hasFlag(fl, 1<<i)) {
         setAlpha(uiLayers[i], a);
       }
     }
   }
 
+  /**
+   * @param fl flags
+   * @return group of the specified UI layers, tweened as one target, or null if there are none.
+   */
+  public TweenGroup uiLayerGroup(int fl) {
+    fl &= uiLayerGroups.length - 1;
+    if (fl == 0) {
+      return null;
+    }
+    if (uiLayerGroups[fl] == null) {
+      uiLayerGroups[fl] = new TweenGroup();
+      for (int i=0; i < UI_LENGTH; i++) {
+        if (hasFlag(fl, 1<<i)) {
+          uiLayerGroups[fl].add(uiLayers[i]);
+        }
+      }
+    }
+    return uiLayerGroups[fl];
+  }
+
+  /**
+   * Kills the opacity tweens of the specified UI layers and of the groups sharing any of them.
+   * @param fl flags
+   */
+  private void killUiLayers(int fl) {
+    for (int i=0; i < UI_LENGTH; i++) {
+      if (hasFlag(fl, 1<<i)) {
+        tweenMgr.killTarget(uiLayers[i], ActorAccessor.A);
+      }
+    }
+    for (int i=1; i < uiLayerGroups.length; i++) {
+      if ((i & fl) != 0 && uiLayerGroups[i] != null) {
+        tweenMgr.killTarget(uiLayerGroups[i], TweenGroup.A);
+      }
+    }
+  }
+
   /**
    * Fades the specified UI layer's opacity.
    * @param i index
@@ -1215,7 +1729,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param d duration
    */
   public void fadeUiLayer(int i, float a, float d) {
-    $fadeUiLayer(i, a, d).start(tweenMgr);
+    fadeUiLayers(1<<i, a, d);
   }
 
   /**
@@ -1235,6 +1749,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public Tween $fadeCamShake(float v, float d) {
     tweenMgr.killTarget(camShake);
+    floatTweens.killTarget(camShake);
     return Tween.to(camShake, 0, d).target(v).ease(Soft.INOUT);
   }
 
@@ -1264,6 +1779,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public Tween $fadeTimescale(float v, float d) {
     tweenMgr.killTarget(timescale);
+    floatTweens.killTarget(timescale);
     return Tween.to(timescale, 0, d).target(v).ease(Soft.INOUT);
   }
 
@@ -1293,6 +1809,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public Tween $fadeUiTimescale(float v, float d) {
     tweenMgr.killTarget(uiTimescale);
+    floatTweens.killTarget(uiTimescale);
     return Tween.to(uiTimescale, 0, d).target(v).ease(Soft.INOUT);
   }
 
@@ -1322,6 +1839,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public Tween $tweenMasterVolume(float v, float d) {
     tweenMgr.killTarget(soundVolume);
+    floatTweens.killTarget(soundVolume);
     return Tween.to(soundVolume, 0, d).target(v).ease(Soft.INOUT)
              .setCallbackTriggers(BEGIN|COMPLETE).setCallback(masterVolumeCallback);
   }
@@ -1352,6 +1870,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public Tween $fadeSfxVolume(float v, float d) {
     tweenMgr.killTarget(sfxVolume);
+    floatTweens.killTarget(sfxVolume);
     return Tween.to(sfxVolume, 0, d).target(v).ease(Soft.INOUT);
   }
 
@@ -1381,6 +1900,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public Tween $tweenMusicVolume(float v, float d) {
     tweenMgr.killTarget(musicVolume);
+    floatTweens.killTarget(musicVolume);
     return Tween.to(musicVolume, 0, d).target(v).ease(Soft.INOUT)
              .setCallbackTriggers(BEGIN|COMPLETE).setCallback(masterVolumeCallback);
   }
@@ -1495,15 +2015,9 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param d duration
    * @return tween handle
    */
-  public Timeline $fadeUiLayers(int fl, float a, float d) {
-    Timeline tl = Timeline.createParallel();
-    for (int i = 0; i < UI_LENGTH; i++) {
-      if (hasFlag(fl, 1<<i)) {
-        tweenMgr.killTarget(uiLayers[i], ActorAccessor.A);
-        tl.push(Tween.to(uiLayers[i], ActorAccessor.A, d).target(a).ease(Soft.INOUT));
-      }
-    }
-    return tl;
+  public Tween $fadeUiLayers(int fl, float a, float d) {
+    killUiLayers(fl);
+    return uiLayerGroup(fl).$fade(a, d);
   }
 
   /**
@@ -1511,7 +2025,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param fl flags
    * @return tween handle
    */
-  public Timeline $setUiLayersAlpha(int fl, float v) {
+  public Tween $setUiLayersAlpha(int fl, float v) {
     return $fadeUiLayers(fl, v, 0);
   }
 
@@ -1522,7 +2036,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param d duration
    * @return tween handle
    */
-  public Timeline $fadeUiLayer(int i, float a, float d) {
+  public Tween $fadeUiLayer(int i, float a, float d) {
     return $fadeUiLayers(1<<i, a, d);
   }
 
@@ -1531,7 +2045,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param i index
    * @return tween handle
    */
-  public Timeline $setUiLayerAlpha(int i, float v) {
+  public Tween $setUiLayerAlpha(int i, float v) {
     return $fadeUiLayer(i, v, 0);
   }
 
@@ -1542,7 +2056,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public void fadeIn(int fl, float d) {
     ol.killBlackouts();
-    $fadeIn(fl, d).start(tweenMgr);
+    layerTargets(fadeInTemplate.obtain().target(0, ol.blackouts()), 1, fl).value(0, d).start(tweenMgr);
   }
 
   /**
@@ -1550,8 +2064,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param d duration
    */
   public void fadeIn(float d) {
-    ol.killBlackouts();
-    $fadeIn(d).start(tweenMgr);
+    fadeIn(UI_GENERAL, d);
   }
 
   /**
@@ -1559,16 +2072,14 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param fl flags
    */
   public void fadeIn(int fl) {
-    ol.killBlackouts();
-    $fadeIn(fl).start(tweenMgr);
+    fadeIn(fl, C_OD);
   }
 
   /**
    * Fades the screen and the general UI layers (game and menus) in after it first turns it black and invisible respectively.
    */
   public void fadeIn() {
-    ol.killBlackouts();
-    $fadeIn().start(tweenMgr);
+    fadeIn(C_OD);
   }
 
   /**
@@ -1578,7 +2089,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public void fadeOut(int fl, float d) {
     ol.killBlackouts();
-    $fadeOut(fl, d).start(tweenMgr);
+    layerTargets(fadeOutTemplate.obtain().target(0, ol.blackouts()), 1, fl).value(0, d).start(tweenMgr);
   }
 
   /**
@@ -1586,8 +2097,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param d duration
    */
   public void fadeOut(float d) {
-    ol.killBlackouts();
-    $fadeOut(d).start(tweenMgr);
+    fadeOut(UI_GENERAL, d);
   }
 
   /**
@@ -1595,16 +2105,14 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param fl flags
    */
   public void fadeOut(int fl) {
-    ol.killBlackouts();
-    $fadeOut(fl).start(tweenMgr);
+    fadeOut(fl, C_D);
   }
 
   /**
    * Fades the screen to black and fade the general UI (game and menus) layers out.
    */
   public void fadeOut() {
-    ol.killBlackouts();
-    $fadeOut().start(tweenMgr);
+    fadeOut(C_D);
   }
 
   /**
@@ -1617,7 +2125,9 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public void fadeOutIn(int fli, int flo, float id, float od, TweenCallback cb) {
     ol.killBlackouts();
-    $fadeOutIn(fli, flo, id, od, cb).start(tweenMgr);
+    TweenTemplate.Instance tl = fadeOutInTemplate.obtain().target(0, ol.blackouts());
+    layerTargets(layerTargets(tl, 1, fli), 2, flo).value(0, id).value(1, od).callback(0, cb)
+        .start(tweenMgr);
   }
 
   /**
@@ -1627,8 +2137,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param cb callback
    */
   public void fadeOutIn(float id, float od, TweenCallback cb) {
-    ol.killBlackouts();
-    $fadeOutIn(id, od, cb).start(tweenMgr);
+    fadeOutIn(UI_GENERAL, UI_GENERAL, id, od, cb);
   }
 
   /**
@@ -1638,8 +2147,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param cb callback
    */
   public void fadeOutIn(int fli, int flo, TweenCallback cb) {
-    ol.killBlackouts();
-    $fadeOutIn(fli, flo, cb).start(tweenMgr);
+    fadeOutIn(fli, flo, C_D, C_OD, cb);
   }
 
   /**
@@ -1647,8 +2155,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param cb callback
    */
   public void fadeOutIn(TweenCallback cb) {
-    ol.killBlackouts();
-    $fadeOutIn(cb).start(tweenMgr);
+    fadeOutIn(C_D, C_OD, cb);
   }
 
   /**
@@ -1659,7 +2166,8 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public void fadeTo(int fl, float d, TweenCallback cb) {
     ol.killBlackouts();
-    $fadeTo(fl, d, cb).start(tweenMgr);
+    layerTargets(fadeToTemplate.obtain().target(0, ol.blackouts()), 1, fl).value(0, d).callback(0, cb)
+        .start(tweenMgr);
   }
 
   /**
@@ -1668,8 +2176,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param cb callback
    */
   public void fadeTo(float d, TweenCallback cb) {
-    ol.killBlackouts();
-    $fadeTo(d, cb).start(tweenMgr);
+    fadeTo(UI_GENERAL, d, cb);
   }
 
   /**
@@ -1677,8 +2184,17 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @param cb callback
    */
   public void fadeTo(TweenCallback cb) {
-    ol.killBlackouts();
-    $fadeTo(cb).start(tweenMgr);
+    fadeTo(C_D, cb);
+  }
+
+  /**
+   * Sets the group of the flagged UI layers as the target of the instance, killing their opacity tweens.
+   * @param slot target slot
+   * @param fl flags
+   */
+  private TweenTemplate.Instance layerTargets(TweenTemplate.Instance tl, int slot, int fl) {
+    killUiLayers(fl);
+    return tl.target(slot, uiLayerGroup(fl));
   }
 
   /**
@@ -1820,7 +2336,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    */
   public Timeline $fadeTo(int fl, float d, TweenCallback cb) {
     return Timeline.createSequence()
-             .push($fadeOut(d))
+             .push($fadeOut(fl, d))
              .push(Tween.call(cb));
   }
 
@@ -1841,7 +2357,7 @@ public abstract class BaseContext<AL extends BaseAppListener> implements InputPr
    * @return tween handle
    */
   public Timeline $fadeTo(float d, TweenCallback cb) {
-    return $fadeTo(UI_GENERAL, C_D, cb);
+    return $fadeTo(UI_GENERAL, d, cb);
   }
 
   /**
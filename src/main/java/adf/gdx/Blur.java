@@ -1,13 +1,17 @@
 package adf.gdx;
 
-import static adf.gdx.BaseContext.tweenMgr;
+import static adf.gdx.BaseContext.appFloatTweens;
+import static adf.gdx.BaseContext.appTweenMgr;
 import static adf.gdx.DefaultBlurShader.*;
 import static adf.gdx.Util.C_D;
+import static adf.gdx.Util.bytesPerPixel;
 import static aurelienribon.tweenengine.TweenCallback.*;
 
 import adf.gdx.utils.Soft;
 
 import aurelienribon.tweenengine.Tween;
+import aurelienribon.tweenengine.TweenCallback;
+import aurelienribon.tweenengine.TweenManager;
 import aurelienribon.tweenengine.primitives.MutableFloat;
 
 import com.badlogic.gdx.files.FileHandle;
@@ -40,11 +44,17 @@ public class Blur {
   protected final MutableFloat  disp        = new MutableFloat(0);  // blur disposition, positive adds to h-pass and vice versa
   protected boolean             pass;       // update route permit
   protected boolean             schedule;   // one-time update route permit
+  // created once, so that fades don't allocate
+  private final TweenCallback   passCallback      = (type, source) -> pass = type == BEGIN;
+  private final TweenCallback   scheduleCallback  = (type, source) -> schedule = true;
 
   protected boolean             skipH;      // skip horizontal pass
   protected boolean             skipV;      // skip vertical pass
 
   protected boolean             firstResize = true;
+  // run the fades, set to the owner context's ones
+  protected TweenManager        tweenMgr    = appTweenMgr;
+  protected FloatTweens         floatTweens = appFloatTweens;
 
   public Blur() {}
 
@@ -56,6 +66,19 @@ public class Blur {
     load(hvert, hfrag, vvert, vfrag);
   }
 
+  /**
+   * Sets the tween managers running the fades.
+   */
+  public Blur setTweenDomain(TweenDomain domain) {
+    tweenMgr.killTarget(amount);
+    tweenMgr.killTarget(disp);
+    floatTweens.killTarget(amount);
+    floatTweens.killTarget(disp);
+    tweenMgr = domain.tweenMgr;
+    floatTweens = domain.floatTweens;
+    return this;
+  }
+
   public void load(FileHandle hvert, FileHandle hfrag, FileHandle vvert, FileHandle vfrag) {
     isFileBased = true;
 
@@ -117,16 +140,31 @@ public class Blur {
     return this;
   }
 
+  public Format format() {
+    return format;
+  }
+
+  /**
+   * Takes effect on the next {@link #resize(int, int)}.
+   */
   public Blur setResDiv(int v) {
     resDiv = v;
     return this;
   }
 
+  public int resDiv() {
+    return resDiv;
+  }
+
   public Blur setIters(int i) {
     iters = i;
     return this;
   }
 
+  public int iters() {
+    return iters;
+  }
+
   public void reset() {
     setAmount(0);
     pass = false;
@@ -235,13 +273,14 @@ public class Blur {
 
   public void setAmount(float v) {
     tweenMgr.killTarget(amount);
+    floatTweens.killTarget(amount);
     amount.setValue(v);
     schedule = true;
   }
 
   public void fade(float v, float d) {
     tweenMgr.killTarget(amount);
-    $fade(v, d).start(tweenMgr);
+    floatTweens.to(amount, v, d, Soft.INOUT, passCallback, BEGIN|COMPLETE);
   }
 
   public void fade(float v) {
@@ -254,13 +293,14 @@ public class Blur {
 
   public void setDisp(float v) {
     tweenMgr.killTarget(disp);
+    floatTweens.killTarget(disp);
     disp.setValue(v);
     schedule = true;
   }
 
   public void fadeDisp(float v, float d) {
     tweenMgr.killTarget(disp);
-    $fadeDisp(v, d).start(tweenMgr);
+    floatTweens.to(disp, v, d, Soft.INOUT, passCallback, BEGIN|COMPLETE);
   }
 
   public void fadeDisp(float v) {
@@ -273,13 +313,7 @@ public class Blur {
    */
   public Tween $fade(float v, float d) {
     return Tween.to(amount, 0, d).target(v).ease(Soft.INOUT)
-             .setCallback((type, source) -> {
-               if (type == BEGIN) {
-                 pass = true;
-               } else {
-                 pass = false;
-               }
-             })
+             .setCallback(passCallback)
              .setCallbackTriggers(BEGIN|COMPLETE);
   }
 
@@ -290,7 +324,7 @@ public class Blur {
    * @param v value
    */
   public Tween $setAmount(float v) {
-    return Tween.set(amount, 0).target(v).setCallback((type, source) -> schedule = true);
+    return Tween.set(amount, 0).target(v).setCallback(scheduleCallback);
   }
 
   /**
@@ -299,13 +333,7 @@ public class Blur {
    */
   public Tween $fadeDisp(float v, float d) {
     return Tween.to(disp, 0, d).target(v).ease(Soft.INOUT)
-             .setCallback((type, source) -> {
-               if (type == BEGIN) {
-                 pass = true;
-               } else {
-                 pass = false;
-               }
-             })
+             .setCallback(passCallback)
              .setCallbackTriggers(BEGIN|COMPLETE);
   }
 
@@ -313,15 +341,32 @@ public class Blur {
    * @param v value
    */
   public Tween $setDisp(float v) {
-    return Tween.set(disp, 0).target(v).setCallback((type, source) -> schedule = true);
+    return Tween.set(disp, 0).target(v).setCallback(scheduleCallback);
   }
 
   public void dispose() {
     hpass.dispose();
     vpass.dispose();
-    fb.dispose();
-    hfb.dispose();
-    vfb.dispose();
+    release();
+  }
+
+  /**
+   * Disposes of the frame buffers, they are created again on the next {@link #resize(int, int)}.
+   */
+  public void release() {
+    if (!firstResize) {
+      fb.dispose();
+      hfb.dispose();
+      vfb.dispose();
+      firstResize = true;
+    }
+  }
+
+  /**
+   * @return estimated size of the frame buffers in bytes.
+   */
+  public long residentBytes() {
+    return firstResize ? 0 : 3L * fb.getWidth() * fb.getHeight() * bytesPerPixel(format);
   }
 
   public void resize(int width, int height) {
@@ -7,6 +7,7 @@ import static adf.gdx.Util.*;
 
 import aurelienribon.tweenengine.Timeline;
 import aurelienribon.tweenengine.Tween;
+import aurelienribon.tweenengine.TweenManager;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
@@ -14,28 +15,36 @@ import com.badlogic.gdx.physics.box2d.Body;
 public final class Box2DController {
   private Box2DController() {}
 
+  /**
+   * @return timescaled tween manager of the current context, since the bodies belong to its world.
+   */
+  private static TweenManager tweenManager() {
+    BaseContext<?> context = BaseAppListener.getInstance().context;
+    return context != null ? context.tscTweenMgr : appTweenMgr;
+  }
+
   public static void moveBody(Body body, float x, float y, float d) {
-    $moveBody(body, x, y, d).start(tscTweenMgr);
+    $moveBody(body, x, y, d).start(tweenManager());
   }
 
   public static void moveBody(Body body, float x, float y) {
-    $moveBody(body, x, y).start(tscTweenMgr);
+    $moveBody(body, x, y).start(tweenManager());
   }
 
   public static void moveBody(Body body, Vector2 pos, float d) {
-    $moveBody(body, pos, d).start(tscTweenMgr);
+    $moveBody(body, pos, d).start(tweenManager());
   }
 
   public static void moveBody(Body body, Vector2 pos) {
-    $moveBody(body, pos).start(tscTweenMgr);
+    $moveBody(body, pos).start(tweenManager());
   }
 
   public static void rotateBody(Body body, float a, float d) {
-  $rotateBody(body, a, d).start(tscTweenMgr);
+  $rotateBody(body, a, d).start(tweenManager());
   }
 
   public static void rotateBody(Body body, float a) {
-    $rotateBody(body, a).start(tscTweenMgr);
+    $rotateBody(body, a).start(tweenManager());
   }
 
   public static Timeline $moveBody(Body body, float x, float y, float d) {
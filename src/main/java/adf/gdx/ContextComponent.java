@@ -8,19 +8,25 @@ import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 
 public abstract class ContextComponent<C extends BaseContext<?>> {
-  protected final C           ctx;  // context
-  protected final SpriteBatch bat;  // context batch
-  protected final Camera      cam;
-  protected final Stage       ui;
-  protected final Vector2     tmpv2       = new Vector2();
-  protected final Vector3     tmpv3       = new Vector3();
-  protected final Color       tmpclr      = new Color();
-  protected boolean           firstResize = true;
+  protected final C                   ctx;  // context
+  protected final SpriteBatch         bat;  // context batch
+  protected final Camera              cam;
+  protected final Stage               ui;
+  protected final IndexedTweenManager tweenMgr;     // context tween managers
+  protected final IndexedTweenManager tscTweenMgr;
+  protected final IndexedTweenManager uiTweenMgr;
+  protected final Vector2             tmpv2       = new Vector2();
+  protected final Vector3             tmpv3       = new Vector3();
+  protected final Color               tmpclr      = new Color();
+  protected boolean                   firstResize = true;
 
   public ContextComponent(C context) {
     ctx = context;
     bat = context.batch;
     cam = context.camera;
     ui = context.ui;
+    tweenMgr = context.tweenMgr;
+    tscTweenMgr = context.tscTweenMgr;
+    uiTweenMgr = context.uiTweenMgr;
   }
 }
@@ -0,0 +1,178 @@
+package adf.gdx;
+
+import static adf.gdx.Logger.*;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Prepares a context across frames while the current one keeps rendering.
+ * <p>The context is constructed on the rendering thread, then {@link BaseContext#prepare(ContextLoader)} queues
+ * its work: CPU jobs run on a worker thread in order, GL steps run on the rendering thread in order under
+ * {@link #budget} per frame, each step waiting for the jobs queued before it. The last step resizes the context,
+ * so its frame buffers exist before the switch. Driven by {@link BaseAppListener#render()}.
+ */
+public class ContextLoader {
+  /**
+   * Creates the context on the rendering thread.
+   */
+  @FunctionalInterface public interface Factory {
+    public BaseContext<?> create();
+  }
+
+  private static AsyncExecutor      executor;     // shared worker thread
+
+  private final Factory             factory;
+  private final boolean             dispose;      // should the current context be disposed on switch
+  private final Array<Runnable>     steps         = new Array<>();
+  private final IntArray            stepGates     = new IntArray();  // number of jobs each step waits for
+  private final AtomicInteger       jobsDone      = new AtomicInteger();
+  private volatile Throwable        jobError;
+  private BaseContext<?>            context;
+  private int                       jobs;
+  private int                       stepsDone;
+  private int                       resizedWidth, resizedHeight;
+  private volatile boolean          isCancelled;  // read by the queued jobs
+  public float                      budget        = .004f;  // rendering thread time per frame in seconds
+
+  public ContextLoader(Factory factory, boolean dispose) {
+    this.factory = factory;
+    this.dispose = dispose;
+  }
+
+  /**
+   * Queues a job to be run on the worker thread. Mustn't make GL calls.
+   */
+  public ContextLoader async(Runnable job) {
+    if (executor == null) {
+      executor = new AsyncExecutor(1, "ContextLoader");
+    }
+    jobs++;
+    executor.submit(() -> {
+      try {
+        if (!isCancelled) {
+          job.run();
+        }
+      } catch (Throwable e) {
+        jobError = e;
+      } finally {
+        jobsDone.incrementAndGet();
+      }
+      return null;
+    });
+    return this;
+  }
+
+  /**
+   * Queues a step to be run on the rendering thread once all the jobs queued before it are done.
+   * Steps should be small, e.g. loading a single texture or sound, to fit in the budget.
+   */
+  public ContextLoader step(Runnable step) {
+    steps.add(step);
+    stepGates.add(jobs);
+    return this;
+  }
+
+  /**
+   * Queues a step growing the pool to the size saved by the previous launch.
+   * @see Pool#prewarm()
+   */
+  public ContextLoader prewarm(Pool<?> pool) {
+    return step(pool::prewarm);
+  }
+
+  /**
+   * Runs the steps within the budget. Called every frame on the rendering thread.
+   */
+  public void update() {
+    if (jobError != null) {
+      Throwable e = jobError;
+      jobError = null;
+      cancel();
+      throw new GdxRuntimeException("Context preparation failed", e);
+    }
+    if (isCancelled) {
+      // the jobs may still reference the context
+      if (context != null && jobsDone.get() == jobs) {
+        context.dispose();
+        context = null;
+      }
+      return;
+    }
+    long deadline = System.nanoTime() + (long)(budget * 1e9f);
+    if (context == null) {
+      logSetup("Prepare context");
+      context = factory.create();
+      context.prepare(this);
+      step(this::resize);
+      logDone();
+    }
+    while (stepsDone < steps.size && stepGates.get(stepsDone) <= jobsDone.get() && System.nanoTime() < deadline) {
+      steps.get(stepsDone++).run();
+    }
+  }
+
+  private void resize() {
+    context.resize();
+    resizedWidth = Gdx.graphics.getWidth();
+    resizedHeight = Gdx.graphics.getHeight();
+  }
+
+  /**
+   * Stops the preparation, the context is disposed once the running job is done.
+   */
+  public void cancel() {
+    isCancelled = true;
+  }
+
+  public boolean isCancelled() {
+    return isCancelled;
+  }
+
+  /**
+   * @return is the preparation cancelled and its context, if any, disposed of.
+   */
+  public boolean isDisposed() {
+    return isCancelled && context == null && jobsDone.get() == jobs;
+  }
+
+  /**
+   * @return are all the jobs and steps done.
+   */
+  public boolean isReady() {
+    return !isCancelled && context != null && stepsDone == steps.size && jobsDone.get() == jobs;
+  }
+
+  /**
+   * @return share of the done jobs and steps in range [0, 1], including the construction of the context.
+   */
+  public float progress() {
+    if (context == null) {
+      return 0;
+    }
+    return (1f + stepsDone + jobsDone.get()) / (1 + steps.size + jobs);
+  }
+
+  /**
+   * @return the prepared context, null until it is constructed.
+   */
+  public BaseContext<?> context() {
+    return context;
+  }
+
+  public boolean disposeCurrent() {
+    return dispose;
+  }
+
+  /**
+   * @return is the context already resized to the current screen size.
+   */
+  public boolean isResized() {
+    return resizedWidth == Gdx.graphics.getWidth() && resizedHeight == Gdx.graphics.getHeight();
+  }
+}
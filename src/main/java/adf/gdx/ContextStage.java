@@ -0,0 +1,17 @@
+package adf.gdx;
+
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * UI {@link Stage} of a context, through which its actors find the context owning them.
+ * @see BaseContext#contextOf(com.badlogic.gdx.scenes.scene2d.Actor)
+ */
+class ContextStage extends Stage {
+  final BaseContext<?> context;
+
+  ContextStage(Viewport viewport, BaseContext<?> context) {
+    super(viewport);
+    this.context = context;
+  }
+}
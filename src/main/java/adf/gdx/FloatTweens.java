@@ -0,0 +1,328 @@
+package adf.gdx;
+
+import static aurelienribon.tweenengine.TweenCallback.*;
+
+import aurelienribon.tweenengine.TweenCallback;
+import aurelienribon.tweenengine.TweenEquation;
+import aurelienribon.tweenengine.TweenEquations;
+import aurelienribon.tweenengine.primitives.MutableFloat;
+
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/**
+ * Tween engine dedicated to single {@link MutableFloat} values.
+ * The tweens are kept in parallel primitive arrays and updated in one loop, without tween objects, accessors and
+ * value buffers. A target has at most one tween, starting a new one kills the previous.
+ * Tweens are referred to by int handles, which become invalid once the tween is finished or killed.
+ * Callbacks receive {@link TweenCallback#BEGIN}, {@link TweenCallback#START}, {@link TweenCallback#END} and
+ * {@link TweenCallback#COMPLETE} events with a null source.
+ * Nothing is allocated, except for growing the arrays.
+ */
+public class FloatTweens {
+  public static final int         NONE          = 0;  // invalid handle
+
+  // Equations are referred to by their indices, 0 is linear.
+  private static TweenEquation[]  equations     = {TweenEquations.easeNone, null, null, null, null, null, null, null};
+  private static int              equationCount = 1;
+
+  /**
+   * @return index of the equation, registering it if it is new.
+   */
+  public static int equationId(TweenEquation eq) {
+    if (eq == null) {
+      return 0;
+    }
+    for (int i=0; i < equationCount; i++) {
+      if (equations[i] == eq) {
+        return i;
+      }
+    }
+    if (equationCount == equations.length) {
+      TweenEquation[] a = new TweenEquation[equationCount * 2];
+      System.arraycopy(equations, 0, a, 0, equationCount);
+      equations = a;
+    }
+    equations[equationCount] = eq;
+    return equationCount++;
+  }
+
+  private MutableFloat[]          targets;      // null marks a free slot
+  private float[]                 from;         // captured once the delay is over
+  private float[]                 to;
+  private float[]                 durations;
+  private float[]                 delays;
+  private float[]                 elapsed;
+  private int[]                   eqs;          // equation indices
+  private int[]                   generations;  // bumped on every reuse of the slot to invalidate old handles
+  private boolean[]               started;
+  private TweenCallback[]         callbacks;
+  private int[]                   triggers;
+  // slots by targets, MutableFloat is compared by identity
+  private final ObjectIntMap<MutableFloat> slots  = new ObjectIntMap<>();
+  private int[]                   free;         // stack of free slots below high
+  private int                     freeCount;
+  private int                     high;         // slots in use are below this
+  private int                     size;
+  private boolean                 isPaused;
+
+  public FloatTweens(int capacity) {
+    allocate(Math.max(1, capacity));
+  }
+
+  public FloatTweens() {
+    this(16);
+  }
+
+  private void allocate(int capacity) {
+    targets = copy(targets, new MutableFloat[capacity]);
+    from = copy(from, new float[capacity]);
+    to = copy(to, new float[capacity]);
+    durations = copy(durations, new float[capacity]);
+    delays = copy(delays, new float[capacity]);
+    elapsed = copy(elapsed, new float[capacity]);
+    eqs = copy(eqs, new int[capacity]);
+    generations = copy(generations, new int[capacity]);
+    started = copy(started, new boolean[capacity]);
+    callbacks = copy(callbacks, new TweenCallback[capacity]);
+    triggers = copy(triggers, new int[capacity]);
+    free = copy(free, new int[capacity]);
+  }
+
+  private static <T> T copy(T src, T dst) {
+    if (src != null) {
+      System.arraycopy(src, 0, dst, 0, java.lang.reflect.Array.getLength(src));
+    }
+    return dst;
+  }
+
+  private int obtainSlot() {
+    if (freeCount > 0) {
+      return free[--freeCount];
+    }
+    if (high == targets.length) {
+      if (high == 0xffff) {
+        throw new IllegalStateException("Too many float tweens");
+      }
+      allocate(Math.min(0xffff, high * 2));
+    }
+    return high++;
+  }
+
+  private void freeSlot(int i) {
+    slots.remove(targets[i], -1);
+    targets[i] = null;
+    callbacks[i] = null;
+    generations[i] = (generations[i] + 1) & 0x7fff;
+    free[freeCount++] = i;
+    size--;
+  }
+
+  private int handle(int i) {
+    // the generation is offset by one, so that a handle is never NONE
+    return (generations[i] + 1) << 16 | i;
+  }
+
+  /**
+   * @return slot of the handle or -1 if it isn't valid anymore.
+   */
+  private int slot(int handle) {
+    int i = handle & 0xffff;
+    return handle != NONE && i < high && targets[i] != null && handle(i) == handle ? i : -1;
+  }
+
+  /**
+   * Starts tweening the target to the value, killing its previous tween.
+   * @param v target value
+   * @param d duration in seconds
+   * @param eq easing equation, null is linear
+   * @param delay delay in seconds
+   * @param cb callback or null
+   * @param cbTriggers callback event flags
+   * @return handle of the tween.
+   */
+  public int start(MutableFloat target, float v, float d, TweenEquation eq, float delay, TweenCallback cb, int cbTriggers) {
+    killTarget(target);
+    int i = obtainSlot();
+    targets[i] = target;
+    slots.put(target, i);
+    to[i] = v;
+    durations[i] = d;
+    delays[i] = delay;
+    elapsed[i] = 0;
+    eqs[i] = equationId(eq);
+    started[i] = false;
+    callbacks[i] = cb;
+    triggers[i] = cbTriggers;
+    size++;
+    return handle(i);
+  }
+
+  /**
+   * Starts tweening the target to the value, killing its previous tween.
+   * @param cb callback notified of the {@link TweenCallback#COMPLETE} event or null
+   */
+  public int start(MutableFloat target, float v, float d, TweenEquation eq, TweenCallback cb) {
+    return start(target, v, d, eq, 0, cb, COMPLETE);
+  }
+
+  /**
+   * Starts tweening the target to the value, killing its previous tween.
+   */
+  public int start(MutableFloat target, float v, float d, TweenEquation eq) {
+    return start(target, v, d, eq, 0, null, COMPLETE);
+  }
+
+  /**
+   * Changes the target value and the duration of the running tween of the target in place, keeping its equation
+   * and callback. A started tween continues from the current value, a delayed one keeps waiting.
+   * @param v target value
+   * @param d duration in seconds
+   * @return handle of the tween or {@link #NONE} if the target has none.
+   */
+  public int retarget(MutableFloat target, float v, float d) {
+    int i = slots.get(target, -1);
+    if (i < 0) {
+      return NONE;
+    }
+    to[i] = v;
+    durations[i] = d;
+    if (started[i]) {
+      from[i] = target.floatValue();
+      elapsed[i] = delays[i];
+    }
+    return handle(i);
+  }
+
+  /**
+   * Retargets the running tween of the target, or starts a new one if there is none.
+   * @param cb callback of the new tween or null
+   * @param cbTriggers callback event flags of the new tween
+   * @return handle of the tween.
+   * @see #retarget(MutableFloat, float, float)
+   */
+  public int to(MutableFloat target, float v, float d, TweenEquation eq, TweenCallback cb, int cbTriggers) {
+    int h = retarget(target, v, d);
+    return h != NONE ? h : start(target, v, d, eq, 0, cb, cbTriggers);
+  }
+
+  /**
+   * Retargets the running tween of the target, or starts a new one if there is none.
+   */
+  public int to(MutableFloat target, float v, float d, TweenEquation eq) {
+    return to(target, v, d, eq, null, COMPLETE);
+  }
+
+  /**
+   * @return is the tween of the handle neither finished nor killed.
+   */
+  public boolean isRunning(int handle) {
+    return slot(handle) >= 0;
+  }
+
+  /**
+   * Kills the tween of the handle, without calling its callback. Does nothing if it is no longer running.
+   */
+  public void kill(int handle) {
+    int i = slot(handle);
+    if (i >= 0) {
+      freeSlot(i);
+    }
+  }
+
+  /**
+   * Kills the tween of the target, without calling its callback.
+   */
+  public void killTarget(MutableFloat target) {
+    int i = slots.get(target, -1);
+    if (i >= 0) {
+      freeSlot(i);
+    }
+  }
+
+  public boolean containsTarget(MutableFloat target) {
+    return slots.containsKey(target);
+  }
+
+  /**
+   * @return handle of the tween of the target or {@link #NONE}.
+   */
+  public int find(MutableFloat target) {
+    int i = slots.get(target, -1);
+    return i >= 0 ? handle(i) : NONE;
+  }
+
+  public void killAll() {
+    for (int i=0; i < high; i++) {
+      if (targets[i] != null) {
+        freeSlot(i);
+      }
+    }
+  }
+
+  /**
+   * @return number of running tweens.
+   */
+  public int size() {
+    return size;
+  }
+
+  public void pause() {
+    isPaused = true;
+  }
+
+  public void resume() {
+    isPaused = false;
+  }
+
+  public boolean isPaused() {
+    return isPaused;
+  }
+
+  private void callCallback(int i, int type) {
+    if (callbacks[i] != null && (triggers[i] & type) != 0) {
+      callbacks[i].onEvent(type, null);
+    }
+  }
+
+  /**
+   * Advances all tweens.
+   * @param delta time delta in seconds
+   */
+  public void update(float delta) {
+    if (isPaused) {
+      return;
+    }
+    for (int i=0; i < high; i++) {
+      MutableFloat target = targets[i];
+      if (target == null) {
+        continue;
+      }
+      float e = elapsed[i] += delta;
+      if (e < delays[i]) {
+        continue;
+      }
+      // callbacks may kill the tween or start another in its slot
+      int gen = generations[i];
+      if (!started[i]) {
+        started[i] = true;
+        from[i] = target.floatValue();
+        callCallback(i, BEGIN);
+        callCallback(i, START);
+        if (generations[i] != gen) {
+          continue;
+        }
+      }
+      float t = durations[i] > 0 ? (e - delays[i]) / durations[i] : 1;
+      if (t >= 1) {
+        target.setValue(to[i]);
+        callCallback(i, END);
+        callCallback(i, COMPLETE);
+        if (generations[i] == gen) {
+          freeSlot(i);
+        }
+      } else {
+        target.setValue(from[i] + (to[i] - from[i]) * equations[eqs[i]].compute(t));
+      }
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package adf.gdx;
+
+/**
+ * Single source of the frame timing, advanced once at the beginning of every frame.
+ * The raw delta is clamped to {@link #maxDelta}, so a GC pause or a hitch doesn't jump animations forward,
+ * and optionally smoothed with an exponential moving average.
+ * Frames while paused have zero delta, and the first frame after a pause or an idle sleep
+ * repeats the previous delta instead of the one spanning the gap.
+ */
+public class FrameClock {
+  public float        maxDelta      = .1f;  // upper limit of the delta in seconds
+  public float        minDelta      = 0;    // lower limit of the delta in seconds
+  private float       smoothing;            // weight of the previous delta in range [0, 1), 0 disables
+  private float       raw;                  // the last delta as reported by the backend
+  private float       delta;                // the last clamped and smoothed delta
+  private float       last;                 // the last delta outside of a pause
+  private double      time;                 // sum of the deltas
+  private long        frame;                // number of ticks
+  private boolean     isPaused;
+  private boolean     discardNext;          // the next raw delta spans a gap
+
+  /**
+   * @param v weight of the previous delta in range [0, 1), 0 disables the smoothing
+   */
+  public FrameClock setSmoothing(float v) {
+    smoothing = Math.max(0, Math.min(.99f, v));
+    return this;
+  }
+
+  public float smoothing() {
+    return smoothing;
+  }
+
+  /**
+   * Advances the clock. Called once per frame.
+   * @param rawDelta time since the previous frame in seconds
+   */
+  public void tick(float rawDelta) {
+    raw = rawDelta;
+    frame++;
+    if (isPaused) {
+      delta = 0;
+      return;
+    }
+    float d;
+    if (discardNext && last > 0) {
+      d = last;
+    } else {
+      d = Math.max(minDelta, Math.min(rawDelta, maxDelta));
+      if (smoothing > 0 && last > 0) {
+        d = last * smoothing + d * (1 - smoothing);
+      }
+    }
+    discardNext = false;
+    delta = d;
+    last = d;
+    time += d;
+  }
+
+  /**
+   * Makes the next frame repeat the previous delta, e.g. after a stop of the rendering.
+   */
+  public void discardNext() {
+    discardNext = true;
+  }
+
+  /**
+   * Stops the time, the frames have zero delta until {@link #resume()}.
+   */
+  public void pause() {
+    isPaused = true;
+  }
+
+  public void resume() {
+    if (isPaused) {
+      isPaused = false;
+      discardNext();
+    }
+  }
+
+  public boolean isPaused() {
+    return isPaused;
+  }
+
+  /**
+   * @return clamped and smoothed delta of the current frame in seconds.
+   */
+  public float delta() {
+    return delta;
+  }
+
+  /**
+   * @return delta of the current frame as reported by the backend.
+   */
+  public float rawDelta() {
+    return raw;
+  }
+
+  /**
+   * @return sum of the deltas in seconds, which excludes the pauses.
+   */
+  public double time() {
+    return time;
+  }
+
+  /**
+   * @return number of frames since the start.
+   */
+  public long frame() {
+    return frame;
+  }
+
+  /**
+   * Restarts the time and the frame counter, and resumes the clock.
+   */
+  public void reset() {
+    isPaused = false;
+    raw = 0;
+    delta = 0;
+    last = 0;
+    time = 0;
+    frame = 0;
+    discardNext = false;
+  }
+
+  @Override public String toString() {
+    return String.format("frame = %d, time = %.3f s, delta = %.2f ms, raw = %.2f ms, smoothing = %.2f%s",
+        frame, time, delta * 1000, raw * 1000, smoothing, isPaused ? ", paused" : "");
+  }
+}
@@ -0,0 +1,185 @@
+package adf.gdx;
+
+import java.util.Arrays;
+
+/**
+ * Records {@link System#nanoTime()} spans of the frame phases into fixed-size ring buffers.
+ * Recording doesn't allocate, percentiles are computed only on request.
+ * Spans of the drawing phases measure the time spent on submitting GL commands, not the GPU time.
+ * With an {@link AllocationTracker} set, it also records the bytes allocated during the last span of every phase.
+ */
+public class FrameProfiler {
+  public static final int       PH_FRAME      = 0,  // whole frame
+                                PH_UPDATE     = 1,  // BaseContext.update()
+                                PH_TWEENS     = 2,  // general and UI tween managers
+                                PH_UPDATER    = 3,  // timescaled tween manager, updatables and ticks
+                                PH_ACT        = 4,  // stage act
+                                PH_PREPARE    = 5,  // BaseContext.prepareDraw()
+                                PH_DRAW       = 6,  // scene drawing
+                                PH_FINALIZE   = 7,  // BaseContext.finalizeDraw(), i.e. blur passes
+                                PH_UI         = 8,  // BaseContext.drawUi()
+                                PH_BENCHMARK  = 9,  // BaseContext.updateBenchmark()
+                                PH_LENGTH     = 10;
+
+  public static final String[]  phaseNames    = {"frame", "update", "tweens", "updater", "act",
+                                                 "prepare", "draw", "finalize", "ui", "benchmark"};
+
+  private final int             capacity;
+  private final long[][]        samples;      // ring buffers
+  private final int[]           heads;        // next write positions
+  private final int[]           sizes;        // numbers of recorded samples
+  private final long[]          starts;       // current span beginnings
+  private final long[]          sorted;       // scratch buffer for percentiles
+  private final long[]          allocStarts;  // allocated bytes at the current span beginnings
+  private final long[]          allocs;       // bytes allocated during the last spans
+  private boolean               isEnabled;
+  private AllocationTracker     tracker;
+
+  /**
+   * @param capacity number of the latest samples kept per phase.
+   */
+  public FrameProfiler(int capacity) {
+    this.capacity = capacity;
+    samples = new long[PH_LENGTH][capacity];
+    heads = new int[PH_LENGTH];
+    sizes = new int[PH_LENGTH];
+    starts = new long[PH_LENGTH];
+    sorted = new long[capacity];
+    allocStarts = new long[PH_LENGTH];
+    allocs = new long[PH_LENGTH];
+  }
+
+  public FrameProfiler() {
+    this(300);
+  }
+
+  public void enable() {
+    isEnabled = true;
+  }
+
+  public void disable() {
+    isEnabled = false;
+  }
+
+  public boolean isEnabled() {
+    return isEnabled;
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Sets the tracker used to measure allocations of the phases, null disables the measuring.
+   * Works regardless of whether the profiler is enabled.
+   */
+  public void setAllocationTracker(AllocationTracker tracker) {
+    this.tracker = tracker;
+    for (int i=0; i < PH_LENGTH; i++) {
+      allocs[i] = 0;
+    }
+  }
+
+  public AllocationTracker allocationTracker() {
+    return tracker;
+  }
+
+  /**
+   * @return bytes allocated during the last span of the phase, 0 if allocations aren't tracked.
+   */
+  public long allocated(int phase) {
+    return allocs[phase];
+  }
+
+  /**
+   * Starts the span of the phase.
+   */
+  public void begin(int phase) {
+    if (tracker != null) {
+      allocStarts[phase] = tracker.bytes();
+    }
+    if (isEnabled) {
+      starts[phase] = System.nanoTime();
+    }
+  }
+
+  /**
+   * Finishes the span of the phase and records it.
+   */
+  public void end(int phase) {
+    if (isEnabled) {
+      record(phase, System.nanoTime() - starts[phase]);
+    }
+    if (tracker != null) {
+      allocs[phase] = tracker.bytes() - allocStarts[phase];
+    }
+  }
+
+  /**
+   * Adds a sample to the phase ring buffer, overwriting the oldest one when it is full.
+   * @param nanos span in nanoseconds
+   */
+  public void record(int phase, long nanos) {
+    samples[phase][heads[phase]] = nanos;
+    heads[phase] = (heads[phase] + 1) % capacity;
+    if (sizes[phase] < capacity) {
+      sizes[phase]++;
+    }
+  }
+
+  /**
+   * @return number of recorded samples of the phase.
+   */
+  public int size(int phase) {
+    return sizes[phase];
+  }
+
+  /**
+   * @return the last recorded span of the phase in nanoseconds.
+   */
+  public long last(int phase) {
+    return sizes[phase] == 0 ? 0 : samples[phase][(heads[phase] + capacity - 1) % capacity];
+  }
+
+  /**
+   * @param p percentile in range [0, 1]
+   * @return nearest-rank percentile of the recorded spans of the phase in nanoseconds, 0 if there are none.
+   */
+  public long percentile(int phase, float p) {
+    int n = sizes[phase];
+    if (n == 0) {
+      return 0;
+    }
+    System.arraycopy(samples[phase], 0, sorted, 0, n);
+    Arrays.sort(sorted, 0, n);
+    int i = (int)Math.ceil(p * n) - 1;
+    return sorted[Math.max(0, Math.min(n - 1, i))];
+  }
+
+  /**
+   * Clears all recorded samples.
+   */
+  public void reset() {
+    for (int i=0; i < PH_LENGTH; i++) {
+      heads[i] = 0;
+      sizes[i] = 0;
+    }
+  }
+
+  /**
+   * @return p50, p95 and p99 of every recorded phase in milliseconds.
+   */
+  public String report() {
+    if (sizes[PH_FRAME] == 0) {
+      return isEnabled ? "No frames recorded yet." : "Profiler is disabled.";
+    }
+    StringBuilder sb = new StringBuilder(String.format("%-10s %8s %8s %8s", "phase", "p50", "p95", "p99"));
+    for (int i=0; i < PH_LENGTH; i++) {
+      if (sizes[i] > 0) {
+        sb.append(String.format("\n%-10s %8.3f %8.3f %8.3f", phaseNames[i],
+            percentile(i, .5f) / 1e6f, percentile(i, .95f) / 1e6f, percentile(i, .99f) / 1e6f));
+      }
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,215 @@
+package adf.gdx;
+
+import com.badlogic.gdx.math.MathUtils;
+
+import java.util.Arrays;
+
+/**
+ * {@link Pool} keeping a stack of the indices of its free items, so that {@link #acquire()} and
+ * {@link #release(Object)} take constant time and allocate nothing, instead of looking for a free item.
+ * Items are used from their acquisition until their release, rather than telling it themselves.
+ * When none is free, {@link #acquire()} grows the pool by the growth factor.
+ * Shrinking only removes free items from the end.
+ * Items are looked up by identity in an open addressing table of their indices, so that releasing doesn't box.
+ */
+@SuppressWarnings("serial")
+public abstract class FreeListPool<E> extends Pool<E> {
+  private Object[]  keys    = new Object[0];  // items by their identity hash, null marks an empty bucket
+  private int[]     indices = new int[0];     // of the items in the buckets
+  private int[]     free    = new int[0];  // stack of the free indices
+  private int       freeCount;
+  private boolean[] used    = new boolean[0];
+  private float     growth  = 2;
+
+  public FreeListPool(int cap) {
+    super(cap);
+  }
+
+  public FreeListPool() {
+    super();
+  }
+
+  /**
+   * @param factor size multiplier of the growth on {@link #acquire()}, 1 or less to return null instead
+   */
+  public FreeListPool<E> setGrowth(float factor) {
+    growth = factor;
+    return this;
+  }
+
+  public float growth() {
+    return growth;
+  }
+
+  /**
+   * Marks a free item as used, growing the pool if there are none.
+   * @return the item or null if there are none and the pool doesn't grow.
+   */
+  public E acquire() {
+    if (freeCount == 0) {
+      recordMiss(size() + 1);
+      if (growth <= 1) {
+        return null;
+      }
+      recordGrow();
+      resize(Math.max(size() + 1, (int)Math.ceil(size() * growth)));
+    }
+    return take();
+  }
+
+  private E take() {
+    int i = free[--freeCount];
+    used[i] = true;
+    recordUse(size() - freeCount);
+    return get(i);
+  }
+
+  /**
+   * Marks the item as free. Does nothing if it isn't used or doesn't belong to the pool.
+   * @return was it used.
+   */
+  public boolean release(E obj) {
+    int i = find(obj);
+    if (i < 0 || !used[i]) {
+      return false;
+    }
+    used[i] = false;
+    free[freeCount++] = i;
+    return true;
+  }
+
+  /**
+   * @return number of the used items.
+   */
+  @Override public int usedCount() {
+    return size() - freeCount;
+  }
+
+  public int freeCount() {
+    return freeCount;
+  }
+
+  /**
+   * Acquires a free item without growing.
+   * @return the item, which is used until released, or null if there are none.
+   */
+  @Override public E nextFree() {
+    if (freeCount == 0) {
+      recordMiss(size() + 1);
+      return null;
+    }
+    return take();
+  }
+
+  /**
+   * Acquires a free item, growing the pool if there are none.
+   * @return the item, which is used until released, or null if the pool doesn't grow.
+   */
+  @Override public E nextFreeExtra() {
+    return acquire();
+  }
+
+  @Override public void trim(int cap) {
+    resize(cap);
+  }
+
+  @Override protected boolean isFree(E obj) {
+    int i = find(obj);
+    return i >= 0 && !used[i];
+  }
+
+  /**
+   * @return index of the item or -1 if it doesn't belong to the pool.
+   */
+  private int find(Object obj) {
+    if (obj == null || keys.length == 0) {
+      return -1;
+    }
+    int mask = keys.length - 1;
+    for (int b=bucket(obj, mask); keys[b] != null; b = (b+1) & mask) {
+      if (keys[b] == obj) {
+        return indices[b];
+      }
+    }
+    return -1;
+  }
+
+  private static int bucket(Object obj, int mask) {
+    int h = System.identityHashCode(obj);
+    return (h ^ h >>> 16) & mask;
+  }
+
+  /**
+   * Rebuilds the table of the indices, at most half full.
+   */
+  private void reindex() {
+    int n = size();
+    int cap = MathUtils.nextPowerOfTwo(Math.max(2, n * 2));
+    if (keys.length < cap) {
+      keys = new Object[cap];
+      indices = new int[cap];
+    } else {
+      Arrays.fill(keys, null);
+    }
+    int mask = keys.length - 1;
+    for (int i=0; i < n; i++) {
+      int b = bucket(get(i), mask);
+      while (keys[b] != null) {
+        b = (b+1) & mask;
+      }
+      keys[b] = get(i);
+      indices[b] = i;
+    }
+  }
+
+  @Override public void resize(int cap) {
+    int n = size();
+    if (cap > n) {
+      if (cap > used.length) {
+        boolean[] u = new boolean[cap];
+        System.arraycopy(used, 0, u, 0, n);
+        used = u;
+        int[] f = new int[cap];
+        System.arraycopy(free, 0, f, 0, freeCount);
+        free = f;
+      }
+      super.resize(cap);
+      // the new ones go under the free ones, the lowest index the nearest to the top
+      for (int i=cap-1; i >= n; i--) {
+        used[i] = false;
+      }
+      reindex();
+      System.arraycopy(free, 0, free, cap - n, freeCount);
+      for (int i=0; i < cap-n; i++) {
+        free[i] = cap - 1 - i;
+      }
+      freeCount += cap - n;
+    } else if (cap < n) {
+      int end = n;
+      while (end > Math.max(0, cap) && !used[end-1]) {
+        end--;
+      }
+      super.resize(end);
+      reindex();
+      rebuildFree();
+    }
+  }
+
+  private void rebuildFree() {
+    freeCount = 0;
+    for (int i=size()-1; i >= 0; i--) {
+      if (!used[i]) {
+        free[freeCount++] = i;
+      }
+    }
+  }
+
+  @Override public void clear() {
+    super.clear();
+    Arrays.fill(keys, null);
+    freeCount = 0;
+    for (int i=0; i < used.length; i++) {
+      used[i] = false;
+    }
+  }
+}
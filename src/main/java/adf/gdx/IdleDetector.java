@@ -0,0 +1,162 @@
+package adf.gdx;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Switches the graphics to non-continuous rendering after a run of idle frames and back on any activity.
+ * While sleeping, a frame is rendered only on input or on {@link com.badlogic.gdx.Graphics#requestRendering()},
+ * and any activity on that frame wakes it up.
+ * It also listens to the input: it is added to the front of every context input multiplexer, doesn't consume
+ * any events and marks the next frame as active.
+ * Disabled by default.
+ */
+public class IdleDetector extends InputAdapter {
+  /**
+   * Something that requires continuous rendering while it is active, e.g. a playing animation.
+   */
+  @FunctionalInterface public interface Activity {
+    public boolean isActive();
+  }
+
+  private final Array<Activity> activities  = new Array<>(false, 8, Activity.class);
+  private boolean               isEnabled;
+  private boolean               isSleeping;
+  private boolean               hadInput;     // input received since the last frame
+  private boolean               isResuming;   // the current frame is the first one after sleeping
+  private int                   idleFrames;   // idle frames in a row
+  public int                    sleepAfter    = 3;  // idle frames in a row before the rendering stops
+
+  public void enable() {
+    isEnabled = true;
+  }
+
+  /**
+   * Disables the detection and resumes the continuous rendering.
+   */
+  public void disable() {
+    isEnabled = false;
+    wake();
+  }
+
+  public boolean isEnabled() {
+    return isEnabled;
+  }
+
+  /**
+   * @return is the continuous rendering stopped.
+   */
+  public boolean isSleeping() {
+    return isSleeping;
+  }
+
+  public void addActivity(Activity a) {
+    activities.add(a);
+  }
+
+  public void removeActivity(Activity a) {
+    activities.removeValue(a, true);
+  }
+
+  /**
+   * @return is any of the registered activities active.
+   */
+  public boolean activitiesActive() {
+    for (int i=0; i < activities.size; i++) {
+      if (activities.items[i].isActive()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return has any input been received since the last frame.
+   */
+  public boolean hadInput() {
+    return hadInput;
+  }
+
+  /**
+   * Resumes the continuous rendering. Has to be called when anything is started outside of the rendering thread
+   * and the input, e.g. on a network response.
+   */
+  public void wake() {
+    idleFrames = 0;
+    if (isSleeping) {
+      isSleeping = false;
+      Gdx.graphics.setContinuousRendering(true);
+      Gdx.graphics.requestRendering();
+    }
+  }
+
+  /**
+   * @return is the current frame the first one after sleeping, whose time delta spans the whole sleep.
+   */
+  public boolean isResuming() {
+    return isResuming;
+  }
+
+  /**
+   * Called at the beginning of every frame.
+   */
+  public void beginFrame() {
+    isResuming = isSleeping;
+  }
+
+  /**
+   * Called at the end of every frame.
+   * @param idle has nothing been going on during the frame
+   */
+  public void endFrame(boolean idle) {
+    if (isEnabled) {
+      if (idle && !hadInput) {
+        if (!isSleeping && ++idleFrames >= sleepAfter) {
+          isSleeping = true;
+          Gdx.graphics.setContinuousRendering(false);
+        }
+      } else {
+        wake();
+      }
+    }
+    hadInput = false;
+  }
+
+  private boolean input() {
+    hadInput = true;
+    return false;
+  }
+
+  @Override public boolean keyDown(int keycode) {
+    return input();
+  }
+
+  @Override public boolean keyUp(int keycode) {
+    return input();
+  }
+
+  @Override public boolean keyTyped(char character) {
+    return input();
+  }
+
+  @Override public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+    return input();
+  }
+
+  @Override public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+    return input();
+  }
+
+  @Override public boolean touchDragged(int screenX, int screenY, int pointer) {
+    return input();
+  }
+
+  @Override public boolean mouseMoved(int screenX, int screenY) {
+    return input();
+  }
+
+  @Override public boolean scrolled(float amountX, float amountY) {
+    return input();
+  }
+}
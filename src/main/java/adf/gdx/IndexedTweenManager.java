@@ -0,0 +1,531 @@
+package adf.gdx;
+
+import aurelienribon.tweenengine.BaseTween;
+import aurelienribon.tweenengine.Timeline;
+import aurelienribon.tweenengine.Tween;
+import aurelienribon.tweenengine.TweenAccessor;
+import aurelienribon.tweenengine.TweenManager;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.lang.reflect.Field;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link TweenManager} which keeps an index of the running tweens by their targets, so killing and checking
+ * the tweens of a target doesn't scan all the running ones.
+ * A timeline or a {@link TweenTemplate} instance is indexed by the targets of all its tweens, and killing any
+ * of them kills the whole timeline, the same way {@link TweenManager#killTarget(Object)} does.
+ * Finished tweens are dropped from the index on the next update, right before the manager frees them.
+ * Running tweens can be retargeted in place instead of being killed and recreated.
+ * Keeps counters of the running tweens, the engine pool use and the update time, see {@link #report()}.
+ */
+public class IndexedTweenManager extends TweenManager {
+  /**
+   * Tweens of a target, along with the tween types. Timelines appear once per tween of the target.
+   */
+  private static class Entry {
+    final Array<BaseTween<?>> owners  = new Array<>(false, 4);
+    final IntArray            types   = new IntArray(false, 4);
+  }
+
+  private final IdentityHashMap<Object, Entry>  index       = new IdentityHashMap<>();
+  private final Array<BaseTween<?>>             indexed     = new Array<>(false, 64);  // running tweens and timelines
+  private final Array<Entry>                    freeEntries = new Array<>(false, 16);
+
+  // Statistics. Per indexed object: the engine objects it holds and the time it was added at.
+  private final String                          name;
+  private final IntArray                        objectCounts  = new IntArray(false, 64);
+  private final FloatArray                      addedAt       = new FloatArray(false, 64);
+  private float                                 time;           // sum of the update deltas
+  private int                                   objects;        // engine tweens and timelines held
+  private int                                   peak;
+  private long                                  obtained;       // engine objects added
+  private long                                  misses;         // of them newly allocated by the engine pools
+  private long                                  updates;
+  private long                                  updateNanos;    // the last update
+  private long                                  maxUpdateNanos;
+  private double                                avgUpdateNanos; // moving average
+  private boolean                               isPaused;
+  // Engine objects either held by the managers or waiting in the pools, grows only when the pools are empty.
+  private static int                            liveObjects;
+  private static int                            createdObjects;
+
+  // The engine has no setters for these, retargeting is off if they can't be reached.
+  private static final Field                    durationField, currentTimeField, startValuesField, relativeField;
+
+  static {
+    Field duration, currentTime, startValues, relative;
+    try {
+      duration = BaseTween.class.getDeclaredField("duration");
+      currentTime = BaseTween.class.getDeclaredField("currentTime");
+      startValues = Tween.class.getDeclaredField("startValues");
+      relative = Tween.class.getDeclaredField("isRelative");
+      duration.setAccessible(true);
+      currentTime.setAccessible(true);
+      startValues.setAccessible(true);
+      relative.setAccessible(true);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      duration = currentTime = startValues = relative = null;
+    }
+    durationField = duration;
+    currentTimeField = currentTime;
+    startValuesField = startValues;
+    relativeField = relative;
+  }
+
+  public IndexedTweenManager(String name) {
+    this.name = name;
+  }
+
+  public IndexedTweenManager() {
+    this("tweens");
+  }
+
+  public String name() {
+    return name;
+  }
+
+  @Override public void pause() {
+    super.pause();
+    isPaused = true;
+  }
+
+  @Override public void resume() {
+    super.resume();
+    isPaused = false;
+  }
+
+  @Override public TweenManager add(BaseTween<?> object) {
+    boolean isNew = !isIndexed(object);
+    super.add(object);
+    if (isNew) {
+      int n = countObjects(object);
+      indexed.add(object);
+      objectCounts.add(n);
+      addedAt.add(time);
+      indexTargets(object, object);
+      objects += n;
+      liveObjects += n;
+      obtained += n;
+      peak = Math.max(peak, size());
+      // an object obtained from the pool leaves the sum unchanged, a new one raises it
+      int created = liveObjects + Tween.getPoolSize() + Timeline.getPoolSize();
+      if (created > createdObjects) {
+        misses += created - createdObjects;
+        createdObjects = created;
+      }
+    }
+    return this;
+  }
+
+  /**
+   * @return number of the engine pooled objects, i.e. tweens and timelines, in the object.
+   */
+  private static int countObjects(BaseTween<?> object) {
+    if (object instanceof Tween) {
+      return 1;
+    } else if (object instanceof Timeline) {
+      int n = 1;
+      List<BaseTween<?>> children = ((Timeline)object).getChildren();
+      for (int i=0; i < children.size(); i++) {
+        n += countObjects(children.get(i));
+      }
+      return n;
+    }
+    return 0;
+  }
+
+  private boolean isIndexed(BaseTween<?> object) {
+    if (object instanceof Tween && ((Tween)object).getTarget() != null) {
+      Entry e = index.get(((Tween)object).getTarget());
+      return e != null && e.owners.contains(object, true);
+    }
+    return indexed.contains(object, true);
+  }
+
+  private void indexTargets(BaseTween<?> owner, BaseTween<?> object) {
+    if (object instanceof Tween) {
+      Tween tween = (Tween)object;
+      if (tween.getTarget() != null) {
+        index(owner, tween.getTarget(), tween.getType());
+      }
+    } else if (object instanceof Timeline) {
+      List<BaseTween<?>> children = ((Timeline)object).getChildren();
+      for (int i=0; i < children.size(); i++) {
+        indexTargets(owner, children.get(i));
+      }
+    } else if (object instanceof TweenTemplate.Instance) {
+      TweenTemplate.Instance instance = (TweenTemplate.Instance)object;
+      for (int i=0; i < instance.stepCount(); i++) {
+        if (instance.stepTarget(i) != null) {
+          index(owner, instance.stepTarget(i), instance.stepType(i));
+        }
+      }
+    }
+  }
+
+  private void index(BaseTween<?> owner, Object target, int type) {
+    Entry e = index.get(target);
+    if (e == null) {
+      e = freeEntries.size > 0 ? freeEntries.pop() : new Entry();
+      index.put(target, e);
+    }
+    e.owners.add(owner);
+    e.types.add(type);
+  }
+
+  private void unindex(BaseTween<?> owner, Object target) {
+    Entry e = index.get(target);
+    if (e != null) {
+      for (int i=e.owners.size - 1; i >= 0; i--) {
+        if (e.owners.get(i) == owner) {
+          e.owners.removeIndex(i);
+          e.types.removeIndex(i);
+        }
+      }
+      if (e.owners.size == 0) {
+        index.remove(target);
+        freeEntries.add(e);
+      }
+    }
+  }
+
+  private void unindexTargets(BaseTween<?> owner, BaseTween<?> object) {
+    if (object instanceof Tween) {
+      unindex(owner, ((Tween)object).getTarget());
+    } else if (object instanceof Timeline) {
+      List<BaseTween<?>> children = ((Timeline)object).getChildren();
+      for (int i=0; i < children.size(); i++) {
+        unindexTargets(owner, children.get(i));
+      }
+    } else if (object instanceof TweenTemplate.Instance) {
+      TweenTemplate.Instance instance = (TweenTemplate.Instance)object;
+      for (int i=0; i < instance.stepCount(); i++) {
+        if (instance.stepTarget(i) != null) {
+          unindex(owner, instance.stepTarget(i));
+        }
+      }
+    }
+  }
+
+  @Override public void update(float delta) {
+    long t = System.nanoTime();
+    // the manager removes and frees the finished tweens first, they may be reused afterwards
+    for (int i=indexed.size - 1; i >= 0; i--) {
+      BaseTween<?> object = indexed.get(i);
+      if (object.isFinished()) {
+        unindexTargets(object, object);
+        indexed.removeIndex(i);
+        objects -= objectCounts.get(i);
+        liveObjects -= objectCounts.get(i);
+        objectCounts.removeIndex(i);
+        addedAt.removeIndex(i);
+      }
+    }
+    super.update(delta);
+    if (!isPaused) {
+      time += delta;
+    }
+    updateNanos = System.nanoTime() - t;
+    maxUpdateNanos = Math.max(maxUpdateNanos, updateNanos);
+    avgUpdateNanos = updates == 0 ? updateNanos : avgUpdateNanos * .95 + updateNanos * .05;
+    updates++;
+  }
+
+  @Override public boolean containsTarget(Object target) {
+    Entry e = index.get(target);
+    if (e != null) {
+      for (int i=0; i < e.owners.size; i++) {
+        if (!e.owners.get(i).isFinished()) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override public boolean containsTarget(Object target, int tweenType) {
+    Entry e = index.get(target);
+    if (e != null) {
+      for (int i=0; i < e.owners.size; i++) {
+        if (e.types.get(i) == tweenType && !e.owners.get(i).isFinished()) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override public void killTarget(Object target) {
+    Entry e = index.get(target);
+    if (e != null) {
+      for (int i=0; i < e.owners.size; i++) {
+        e.owners.get(i).kill();
+      }
+    }
+  }
+
+  @Override public void killTarget(Object target, int tweenType) {
+    Entry e = index.get(target);
+    if (e != null) {
+      for (int i=0; i < e.owners.size; i++) {
+        if (e.types.get(i) == tweenType) {
+          e.owners.get(i).kill();
+        }
+      }
+    }
+  }
+
+  /**
+   * @return the highest number of the running tweens and timelines since the last {@link #resetStats()}.
+   */
+  public int peak() {
+    return peak;
+  }
+
+  /**
+   * @return number of the engine tweens and timelines, including the timeline children, held by the manager.
+   */
+  public int objects() {
+    return objects;
+  }
+
+  /**
+   * @return number of the engine tweens and timelines added, including the timeline children.
+   */
+  public long obtained() {
+    return obtained;
+  }
+
+  /**
+   * @return number of the added objects the engine pools had to allocate, as far as the managers can tell:
+   * pool use outside of the managers is not seen.
+   */
+  public long poolMisses() {
+    return misses;
+  }
+
+  public long poolHits() {
+    return obtained - misses;
+  }
+
+  /**
+   * @return duration of the last update in nanoseconds.
+   */
+  public long updateNanos() {
+    return updateNanos;
+  }
+
+  public long maxUpdateNanos() {
+    return maxUpdateNanos;
+  }
+
+  public double avgUpdateNanos() {
+    return avgUpdateNanos;
+  }
+
+  public void resetStats() {
+    peak = size();
+    obtained = misses = updates = 0;
+    updateNanos = maxUpdateNanos = 0;
+    avgUpdateNanos = 0;
+  }
+
+  /**
+   * @return is the object or any of its children repeated infinitely.
+   */
+  private static boolean isInfinite(BaseTween<?> object) {
+    if (object.getRepeatCount() < 0) {
+      return true;
+    }
+    if (object instanceof Timeline) {
+      List<BaseTween<?>> children = ((Timeline)object).getChildren();
+      for (int i=0; i < children.size(); i++) {
+        if (isInfinite(children.get(i))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return number of the running tweens and timelines repeated infinitely, which never finish by themselves.
+   */
+  public int infiniteCount() {
+    int n = 0;
+    for (int i=0; i < indexed.size; i++) {
+      if (!indexed.get(i).isFinished() && isInfinite(indexed.get(i))) {
+        n++;
+      }
+    }
+    return n;
+  }
+
+  /**
+   * Fills the arrays with the targets having the most running tweens, in descending order.
+   * @param n maximum number of the targets
+   */
+  public void topTargets(int n, Array<Object> targets, IntArray counts) {
+    targets.clear();
+    counts.clear();
+    for (Map.Entry<Object, Entry> entry : index.entrySet()) {
+      int count = 0;
+      for (int i=0; i < entry.getValue().owners.size; i++) {
+        if (!entry.getValue().owners.get(i).isFinished()) {
+          count++;
+        }
+      }
+      if (count == 0 || counts.size == n && count <= counts.peek()) {
+        continue;
+      }
+      int i = counts.size;
+      while (i > 0 && counts.get(i-1) < count) {
+        i--;
+      }
+      targets.insert(i, entry.getKey());
+      counts.insert(i, count);
+      if (counts.size > n) {
+        targets.pop();
+        counts.pop();
+      }
+    }
+  }
+
+  /**
+   * @return description of the counters, the top targets and the infinitely repeated tweens.
+   */
+  public String report() {
+    StringBuilder sb = new StringBuilder(String.format(
+        "%s: %d running (%d objects), peak %d, pool %d hits/%d misses, update %.3f ms (avg %.3f, max %.3f)",
+        name, size(), objects, peak, poolHits(), misses,
+        updateNanos / 1e6f, avgUpdateNanos / 1e6, maxUpdateNanos / 1e6f));
+    Array<Object> targets = new Array<>();
+    IntArray counts = new IntArray();
+    topTargets(5, targets, counts);
+    for (int i=0; i < targets.size; i++) {
+      sb.append(String.format("\n  %3d x %s", counts.get(i), describe(targets.get(i))));
+    }
+    for (int i=0; i < indexed.size; i++) {
+      BaseTween<?> object = indexed.get(i);
+      if (!object.isFinished() && isInfinite(object)) {
+        sb.append(String.format("\n  repeating forever for %.1f s: %s", time - addedAt.get(i), describe(object)));
+      }
+    }
+    return sb.toString();
+  }
+
+  private static String describe(Object object) {
+    if (object instanceof Tween) {
+      Tween tween = (Tween)object;
+      return String.format("tween %d of %s", tween.getType(), describe(tween.getTarget()));
+    } else if (object instanceof Timeline) {
+      return "timeline of " + ((Timeline)object).getChildren().size();
+    } else if (object instanceof TweenTemplate.Instance) {
+      return "template instance";
+    } else if (object instanceof Actor && ((Actor)object).getName() != null) {
+      return object.getClass().getSimpleName() + " " + ((Actor)object).getName();
+    }
+    if (object == null) {
+      return "null";
+    }
+    return object.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(object));
+  }
+
+  /**
+   * @return running tween of the target with the given type, null if there is none or it belongs to a timeline.
+   */
+  public Tween find(Object target, int tweenType) {
+    Entry e = index.get(target);
+    if (e != null) {
+      for (int i=0; i < e.owners.size; i++) {
+        BaseTween<?> owner = e.owners.get(i);
+        if (e.types.get(i) == tweenType && owner instanceof Tween && !owner.isFinished()) {
+          return (Tween)owner;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Changes the target value and the duration of the running tween of the target in place, keeping its easing
+   * and callback. The tween continues from the current value.
+   * Tweens still in their delay, relative, repeated tweens and tweens of timelines aren't retargeted, as their
+   * start and target values aren't captured as absolute ones yet.
+   * In those cases the caller kills the tween and starts a new one.
+   * @param d duration
+   * @param v absolute target value
+   * @return the tween or null if there is none to retarget.
+   */
+  public Tween retarget(Object target, int tweenType, float d, float v) {
+    Tween tween = retargetable(target, tweenType);
+    if (tween != null) {
+      tween.getTargetValues()[0] = v;
+      restart(tween, d);
+    }
+    return tween;
+  }
+
+  /**
+   * @param d duration
+   * @see #retarget(Object, int, float, float)
+   */
+  public Tween retarget(Object target, int tweenType, float d, float v1, float v2, float v3) {
+    Tween tween = retargetable(target, tweenType);
+    if (tween != null) {
+      float[] values = tween.getTargetValues();
+      values[0] = v1;
+      values[1] = v2;
+      values[2] = v3;
+      restart(tween, d);
+    }
+    return tween;
+  }
+
+  /**
+   * @param d duration
+   * @see #retarget(Object, int, float, float)
+   */
+  public Tween retarget(Object target, int tweenType, float d, float... values) {
+    Tween tween = retargetable(target, tweenType);
+    if (tween != null) {
+      System.arraycopy(values, 0, tween.getTargetValues(), 0, values.length);
+      restart(tween, d);
+    }
+    return tween;
+  }
+
+  private Tween retargetable(Object target, int tweenType) {
+    if (startValuesField == null) {
+      return null;
+    }
+    Tween tween = find(target, tweenType);
+    try {
+      // initialized once the delay is over
+      return tween != null && tween.getRepeatCount() == 0 && tween.isInitialized()
+          && !relativeField.getBoolean(tween) ? tween : null;
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void restart(Tween tween, float d) {
+    try {
+      // capture the start values again and rewind
+      ((TweenAccessor<Object>)tween.getAccessor()).getValues(tween.getTarget(), tween.getType(),
+          (float[])startValuesField.get(tween));
+      currentTimeField.setFloat(tween, 0);
+      durationField.setFloat(tween, d);
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
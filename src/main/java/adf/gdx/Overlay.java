@@ -6,6 +6,8 @@ import static adf.gdx.TweenUtil.*;
 import static adf.gdx.SceneUtil.*;
 import static adf.gdx.Util.*;
 
+import adf.gdx.utils.Soft;
+
 import aurelienribon.tweenengine.Timeline;
 import aurelienribon.tweenengine.Tween;
 
@@ -17,6 +19,15 @@ import com.badlogic.gdx.scenes.scene2d.ui.Image;
  * Set of full-screen overlay layers that create effects such as screen fading, tinting, flashing, etc.
  */
 public class Overlay extends ContextComponent<BaseContext<?>> {
+  // Fades a layer to the alpha and back to 0. Target: the layer. Values: the alpha, the in and out durations.
+  private static final TweenTemplate inOutTemplate;
+
+  static {
+    inOutTemplate = new TweenTemplate(1, 3, 0);
+    inOutTemplate.tween(0, ActorAccessor.A, 1, Soft.INOUT, 0)
+                 .tween(0, ActorAccessor.A, 2, Soft.INOUT, inOutTemplate.constant(0));
+  }
+
   private final Group root            = new Group();
   private final Image sheers          = new Image(drawable("white"));   // used for light color effects
   private final Image blackouts       = new Image(drawable("white"));   // used for fading the screen in and out
@@ -72,13 +83,25 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
     tweenMgr.killTarget(blackouts);
   }
 
+  Image blackouts() {
+    return blackouts;
+  }
+
+  /**
+   * Fades the layer to {@code a} and to 0 successively.
+   */
+  private void fadeInOut(Image layer, float a, float id, float od) {
+    tweenMgr.killTarget(layer, ActorAccessor.A);
+    inOutTemplate.obtain().target(0, layer).value(0, a).value(1, id).value(2, od).start(tweenMgr);
+  }
+
   /**
    * Fades the {@link Overlay} sheers layer color.
    * @param clr color
    * @param d duration
    */
   public void fadeSheersColor(Color clr, float d) {
-    fadeActorColor(sheers, clr, d);
+    fadeActorColor(tweenMgr, sheers, clr, d);
   }
 
   /**
@@ -86,7 +109,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param clr color
    */
   public void fadeSheersColor(Color clr) {
-    fadeActorColor(sheers, clr, C_D);
+    fadeActorColor(tweenMgr, sheers, clr, C_D);
   }
 
   /**
@@ -104,7 +127,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param d duration
    */
   public void fadeSheers(float a, float d) {
-    fadeActor(sheers, a, d);
+    fadeActor(tweenMgr, sheers, a, d);
   }
 
   /**
@@ -112,7 +135,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param a alpha
    */
   public void fadeSheers(float a) {
-    fadeActor(sheers, a, C_D);
+    fadeActor(tweenMgr, sheers, a, C_D);
   }
 
   /**
@@ -122,7 +145,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param od out duration
    */
   public void fadeSheersInOut(float a, float id, float od) {
-    $fadeSheersInOut(a, id, od).start(tweenMgr);
+    fadeInOut(sheers, a, id, od);
   }
 
   /**
@@ -130,7 +153,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param a alpha
    */
   public void fadeSheersInOut(float a) {
-    $fadeSheersInOut(a).start(tweenMgr);
+    fadeInOut(sheers, a, C_TD, C_D);
   }
 
   /**
@@ -146,7 +169,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * Flashes the screen.
    */
   public void flashFx() {
-    $flashFx().start(tweenMgr);
+    fadeSheersInOut(OL_FLASH_OP);
   }
 
   /**
@@ -155,7 +178,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param d duration
    */
   public void fadeTintColor(Color clr, float d) {
-    fadeActorColor(tint, clr, d);
+    fadeActorColor(tweenMgr, tint, clr, d);
   }
 
   /**
@@ -163,7 +186,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param clr color
    */
   public void fadeTintColor(Color clr) {
-    fadeActorColor(tint, clr, C_D);
+    fadeActorColor(tweenMgr, tint, clr, C_D);
   }
 
   /**
@@ -181,7 +204,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param d duration
    */
   public void fadeTint(float a, float d) {
-    fadeActor(tint, a, d);
+    fadeActor(tweenMgr, tint, a, d);
   }
 
   /**
@@ -189,7 +212,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param a alpha
    */
   public void fadeTint(float a) {
-    fadeActor(tint, a, C_D);
+    fadeActor(tweenMgr, tint, a, C_D);
   }
 
   /**
@@ -207,7 +230,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param d duration
    */
   public void dimIn(float a, float d) {
-    fadeActor(dim, a, d);
+    fadeActor(tweenMgr, dim, a, d);
   }
 
   /**
@@ -215,7 +238,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * Used to create a dark contrasting background for the UI.
    */
   public void dimIn(float d) {
-    fadeActor(dim, C_OP_D, d);
+    fadeActor(tweenMgr, dim, C_OP_D, d);
   }
 
   /**
@@ -223,14 +246,14 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param d duration
    */
   public void dimOut(float d) {
-    fadeActor(dim, 0, d);
+    fadeActor(tweenMgr, dim, 0, d);
   }
 
   /**
    * Smoothly fades out the screen dim.
    */
   public void dimOut() {
-    fadeActor(dim, 0, C_D);
+    fadeActor(tweenMgr, dim, 0, C_D);
   }
 
   /**
@@ -249,7 +272,10 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param d duration
    */
   public void fadeVignetteColor(Color clr, float d) {
-    $fadeVignetteColor(clr, d).start(tweenMgr);
+    if (tweenMgr.retarget(vignette, ActorAccessor.RGB, d, clr.r, clr.g, clr.b) == null) {
+      tweenMgr.killTarget(vignette, ActorAccessor.RGB);
+      $fadeVignetteColor(clr, d).start(tweenMgr);
+    }
   }
 
   /**
@@ -257,7 +283,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param clr color
    */
   public void fadeVignetteColor(Color clr) {
-    $fadeVignetteColor(clr).start(tweenMgr);
+    fadeVignetteColor(clr, C_D);
   }
 
   /**
@@ -275,7 +301,10 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param d duration
    */
   public void fadeVignette(float a, float d) {
-    $fadeVignette(a, d).start(tweenMgr);
+    if (tweenMgr.retarget(vignette, ActorAccessor.A, d, a) == null) {
+      tweenMgr.killTarget(vignette, ActorAccessor.A);
+      $fadeVignette(a, d).start(tweenMgr);
+    }
   }
 
   /**
@@ -283,7 +312,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param a alpha
    */
   public void fadeVignette(float a) {
-    $fadeVignette(a, C_D).start(tweenMgr);
+    fadeVignette(a, C_D);
   }
 
   /**
@@ -293,7 +322,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param od out delay
    */
   public void fadeVignetteInOut(float a, float id, float od) {
-    $fadeVignetteInOut(a, id, od).start(tweenMgr);
+    fadeInOut(vignette, a, id, od);
   }
 
   /**
@@ -301,7 +330,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * @param a alpha
    */
   public void fadeVignetteInOut(Color clr, float a) {
-    $fadeVignetteInOut(a).start(tweenMgr);
+    fadeInOut(vignette, a, C_TD, C_BD);
   }
 
   /**
@@ -317,7 +346,7 @@ public class Overlay extends ContextComponent<BaseContext<?>> {
    * Flashes the vignette.
    */
   public void flashFxVig() {
-    $flashFxVig().start(tweenMgr);
+    fadeInOut(vignette, OL_FLASH_OP, C_TD, C_BD);
   }
 
   /**
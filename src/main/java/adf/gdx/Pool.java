@@ -1,5 +1,10 @@
 package adf.gdx;
 
+import static adf.gdx.BaseAppListener.*;
+
+import com.badlogic.gdx.utils.Array;
+
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -7,9 +12,24 @@ import java.util.List;
  * {@link ArrayList} of reusable items.
  * All items are obligated to have an explicit indicator of their availability to be recycled.
  * On an allocation request, the first free item is returned.
+ * <p>Counts the requests finding no free item and the growths they cause, along with the peak usage.
+ * A {@link #setName(String) named} pool is listed by the {@code pools} console command, its peak is saved to
+ * the preferences by {@link #savePrewarmSizes()}, so that the next launch can {@link #prewarm()} it during loading,
+ * and it shrinks back to the initial size once unused for {@link #shrinkDelay}.
  */
 public abstract class Pool<E> extends ArrayList<E> implements List<E> {
-  private int initialSize;
+  public static final String                      prefPrefix  = "pool.";
+  private static final Array<WeakReference<Pool<?>>> named    = new Array<>();
+  private static double                           now;        // app time of the last tick
+  private static double                           nextCheck;
+
+  private int       initialSize;
+  private String    name;
+  private int       peak;         // the most items needed at once, including an unmet request
+  private int       grows;
+  private long      misses;       // requests finding no free item
+  private double    lastUse;
+  public float      shrinkDelay = 60;  // idle seconds of a named pool before shrinking, 0 disables
 
   public Pool(int cap) {
     super(cap);
@@ -30,18 +50,14 @@ public abstract class Pool<E> extends ArrayList<E> implements List<E> {
   }
 
   public void resize(int cap) {
-    if (cap != size()) {
-      if (cap > size()) {
-        for (int i=0; i < cap-size(); i++) {
-          add(newObj());
-          setup(get(i));
-        }
-      } else if (cap < size()) {
-        for (int i=cap; i < size(); i++) {
-          reset(get(i));
-          remove(i);
-        }
-      }
+    while (size() < cap) {
+      E e = newObj();
+      add(e);
+      setup(e);
+    }
+    // from the end, so that the rest aren't shifted
+    while (size() > Math.max(0, cap)) {
+      reset(remove(size() - 1));
     }
   }
 
@@ -80,11 +96,14 @@ public abstract class Pool<E> extends ArrayList<E> implements List<E> {
    * @return the first found free item. If there are none, returns null.
    */
   public E nextFree() {
-    for (E e : this) {
+    lastUse = now;
+    for (int i=0; i < size(); i++) {
+      E e = get(i);
       if (isFree(e)) {
         return e;
       }
     }
+    recordMiss(size() + 1);
     return null;
   }
 
@@ -93,11 +112,184 @@ public abstract class Pool<E> extends ArrayList<E> implements List<E> {
    */
   public E nextFreeExtra() {
     if (nextFree() == null) {
+      recordGrow();
       grow(5);
     }
     return nextFree();
   }
 
+  /**
+   * Records a request finding no free item.
+   * @param demand number of the items needed at the moment
+   */
+  protected void recordMiss(int demand) {
+    misses++;
+    recordUse(demand);
+  }
+
+  protected void recordGrow() {
+    grows++;
+  }
+
+  /**
+   * Records the usage, touching the pool.
+   * @param used number of the used items
+   */
+  protected void recordUse(int used) {
+    lastUse = now;
+    if (used > peak) {
+      peak = used;
+    }
+  }
+
+  public int peak() {
+    return peak;
+  }
+
+  public int grows() {
+    return grows;
+  }
+
+  public long misses() {
+    return misses;
+  }
+
+  public void resetStats() {
+    peak = 0;
+    grows = 0;
+    misses = 0;
+  }
+
+  /**
+   * @return number of the used items, counted.
+   */
+  public int usedCount() {
+    int n = 0;
+    for (int i=0; i < size(); i++) {
+      if (!isFree(get(i))) {
+        n++;
+      }
+    }
+    return n;
+  }
+
+  /**
+   * Removes the free items from the end, down to the size.
+   */
+  public void trim(int cap) {
+    while (size() > Math.max(0, cap) && isFree(last())) {
+      reset(remove(size() - 1));
+    }
+  }
+
+  public int initialSize() {
+    return initialSize;
+  }
+
+  /**
+   * Names the pool and registers it for the statistics, the prewarm and the shrinking.
+   * @param name key of the preferences entry
+   */
+  public Pool<E> setName(String name) {
+    if (this.name == null) {
+      named.add(new WeakReference<>(this));
+    }
+    this.name = name;
+    lastUse = now;
+    return this;
+  }
+
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Grows the pool to the peak saved by the previous launch, if any. Meant to be called during loading,
+   * e.g. as a {@link ContextLoader} step.
+   */
+  public void prewarm() {
+    if (name != null && prefsLoaded() && prefsContain(prefPrefix + name)) {
+      resize(Math.max(size(), prefi(prefPrefix + name)));
+    }
+  }
+
+  /**
+   * @return description of the counters.
+   */
+  public String stats() {
+    int saved = name != null && prefsLoaded() && prefsContain(prefPrefix + name) ? prefi(prefPrefix + name) : 0;
+    return String.format("%s: %d items, %d used, peak %d, %d misses, %d grows, saved peak %d",
+        name != null ? name : getClass().getSimpleName(), size(), usedCount(), peak, misses, grows, saved);
+  }
+
+  /**
+   * Advances the app time of the named pools and, once a second, shrinks those idle for their delay.
+   * Called every frame by {@link BaseAppListener#render()}.
+   * @param time app time in seconds
+   */
+  public static void tick(double time) {
+    now = time;
+    if (time < nextCheck) {
+      return;
+    }
+    nextCheck = time + 1;
+    for (int i=named.size-1; i >= 0; i--) {
+      Pool<?> pool = named.get(i).get();
+      if (pool == null) {
+        named.removeIndex(i);
+      } else if (pool.shrinkDelay > 0 && pool.size() > pool.initialSize && time - pool.lastUse >= pool.shrinkDelay) {
+        pool.trim(pool.initialSize);
+      }
+    }
+  }
+
+  /**
+   * @return description of the counters of the named pools.
+   */
+  public static String report() {
+    StringBuilder sb = new StringBuilder();
+    for (int i=0; i < named.size; i++) {
+      Pool<?> pool = named.get(i).get();
+      if (pool != null) {
+        sb.append(sb.length() > 0 ? "\n" : "").append(pool.stats());
+      }
+    }
+    return sb.length() > 0 ? sb.toString() : "No named pools";
+  }
+
+  public static void resetAllStats() {
+    for (int i=0; i < named.size; i++) {
+      Pool<?> pool = named.get(i).get();
+      if (pool != null) {
+        pool.resetStats();
+      }
+    }
+  }
+
+  /**
+   * Saves the peaks of the named pools to the preferences to be prewarmed by the next launch.
+   * A lower peak lowers the saved one by a tenth at most, so a single calm session doesn't undo a busy one.
+   */
+  public static void savePrewarmSizes() {
+    boolean changed = false;
+    for (int i=0; i < named.size; i++) {
+      Pool<?> pool = named.get(i).get();
+      if (pool == null || pool.peak == 0) {
+        continue;
+      }
+      String key = prefPrefix + pool.name;
+      int saved = prefsContain(key) ? prefi(key) : 0;
+      int v = Math.max(pool.peak, (int)(saved * .9f));
+      if (v != saved) {
+        putPrefInt(key, v);
+        changed = true;
+      }
+    }
+    if (changed) {
+      flushPrefs();
+    }
+  }
+
   /**
    * @return the item constructor.
    */
@@ -0,0 +1,233 @@
+package adf.gdx;
+
+import com.badlogic.gdx.graphics.Pixmap.Format;
+
+import java.util.Arrays;
+
+/**
+ * Keeps watching frame time percentiles and steps through the quality tiers.
+ * It steps down after {@link #downWindows} overloaded windows in a row and steps up after a longer run of windows
+ * with headroom. A step down that closely follows a step up doubles the headroom run required for the next attempt,
+ * so the tiers don't oscillate on the edge of the budget.
+ */
+public class QualityGovernor {
+  /**
+   * Set of graphical features applied by {@link BaseContext#applyQualityTier(Tier)}.
+   */
+  public static class Tier {
+    public final String   name;
+    public final boolean  postprocess;    // is blur pipeline allowed
+    public final int      resDiv;         // blur resolution divider
+    public final int      iters;          // blur iterations
+    public final Format   format;         // blur frame buffer format
+    public final boolean  simpleGraphics; // nearest texture filtering
+
+    public Tier(String name, boolean postprocess, int resDiv, int iters, Format format, boolean simpleGraphics) {
+      this.name = name;
+      this.postprocess = postprocess;
+      this.resDiv = resDiv;
+      this.iters = iters;
+      this.format = format;
+      this.simpleGraphics = simpleGraphics;
+    }
+
+    @Override public String toString() {
+      return name;
+    }
+  }
+
+  // Ordered from the highest quality to the lowest.
+  public static final Tier[]  defaultTiers      = {
+                                                    new Tier("ultra",   true,   2, 2, Format.RGBA8888,  false),
+                                                    new Tier("high",    true,   4, 1, Format.RGB888,    false),
+                                                    new Tier("medium",  true,   8, 1, Format.RGB565,    false),
+                                                    new Tier("low",     false,  8, 1, Format.RGB565,    false),
+                                                    new Tier("minimal", false,  8, 1, Format.RGB565,    true),
+                                                  };
+
+  private final Tier[]        tiers;
+  private int                 tier;
+  private boolean             isAuto            = true;
+
+  public float                targetFrameTime   = 1 / 60f;
+  public float                downFactor        = 1.25f;  // frame interval p90 above target * factor is overload
+  public float                upFactor          = .6f;    // frame work p90 below target * factor is headroom
+  public int                  downWindows       = 2;      // overloaded windows in a row to step down
+  public int                  upWindows         = 8;      // headroom windows in a row to step up
+  public int                  cooldownWindows   = 3;      // windows skipped after a change
+  public int                  probationWindows  = 10;     // step down within this after a step up counts as a failure
+
+  private final float[]       intervals;        // frame intervals in seconds
+  private final float[]       works;            // frame work times in seconds
+  private final float[]       sorted;
+  private int                 frames;
+  private int                 overloaded;
+  private int                 headroom;
+  private int                 cooldown;
+  private int                 sinceUpgrade      = Integer.MAX_VALUE;
+  private int                 failedUpgrades;
+  private float               lastInterval;     // the last window p90
+  private float               lastWork;
+
+  /**
+   * @param window number of frames per evaluated window
+   * @param tiers tiers ordered from the highest quality to the lowest
+   * @param initial initial tier index
+   */
+  public QualityGovernor(int window, Tier[] tiers, int initial) {
+    this.tiers = tiers;
+    intervals = new float[window];
+    works = new float[window];
+    sorted = new float[window];
+    tier = clampTier(initial);
+  }
+
+  public QualityGovernor() {
+    this(60, defaultTiers, 1);
+  }
+
+  private int clampTier(int i) {
+    return Math.max(0, Math.min(tiers.length - 1, i));
+  }
+
+  public Tier tier() {
+    return tiers[tier];
+  }
+
+  public int tierIndex() {
+    return tier;
+  }
+
+  public Tier[] tiers() {
+    return tiers;
+  }
+
+  /**
+   * @return index of the tier with the given name or -1.
+   */
+  public int findTier(String name) {
+    for (int i=0; i < tiers.length; i++) {
+      if (tiers[i].name.equals(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return index of the highest tier without postprocessing.
+   */
+  public int firstBasicTier() {
+    for (int i=0; i < tiers.length; i++) {
+      if (!tiers[i].postprocess) {
+        return i;
+      }
+    }
+    return tiers.length - 1;
+  }
+
+  /**
+   * @return is postprocessing allowed by the current tier.
+   */
+  public boolean postprocess() {
+    return tiers[tier].postprocess;
+  }
+
+  public boolean isAuto() {
+    return isAuto;
+  }
+
+  /**
+   * Enables or disables automatic tier stepping.
+   */
+  public void setAuto(boolean v) {
+    isAuto = v;
+    resetWindow();
+  }
+
+  /**
+   * Sets the tier and restarts the evaluation.
+   */
+  public void setTier(int i) {
+    tier = clampTier(i);
+    sinceUpgrade = Integer.MAX_VALUE;
+    failedUpgrades = 0;
+    resetWindow();
+  }
+
+  /**
+   * Discards the current window, e.g. after a context switch which produces unrepresentative frames.
+   */
+  public void resetWindow() {
+    frames = 0;
+    overloaded = 0;
+    headroom = 0;
+  }
+
+  /**
+   * Records a frame.
+   * @param interval time since the previous frame in seconds
+   * @param workNanos time spent on the frame in nanoseconds
+   * @return has the tier changed.
+   */
+  public boolean update(float interval, long workNanos) {
+    if (!isAuto) {
+      return false;
+    }
+    intervals[frames] = interval;
+    works[frames] = workNanos / 1e9f;
+    if (++frames < intervals.length) {
+      return false;
+    }
+    frames = 0;
+    lastInterval = p90(intervals);
+    lastWork = p90(works);
+    if (sinceUpgrade < Integer.MAX_VALUE) {
+      sinceUpgrade++;
+    }
+    if (cooldown > 0) {
+      cooldown--;
+      return false;
+    }
+
+    if (lastInterval > targetFrameTime * downFactor) {
+      headroom = 0;
+      if (++overloaded >= downWindows && tier < tiers.length - 1) {
+        if (sinceUpgrade <= probationWindows) {
+          failedUpgrades = Math.min(failedUpgrades + 1, 4);
+        }
+        sinceUpgrade = Integer.MAX_VALUE;
+        return change(tier + 1);
+      }
+    } else if (lastWork < targetFrameTime * upFactor) {
+      overloaded = 0;
+      if (++headroom >= upWindows << failedUpgrades && tier > 0) {
+        sinceUpgrade = 0;
+        return change(tier - 1);
+      }
+    } else {
+      overloaded = 0;
+      headroom = 0;
+    }
+    return false;
+  }
+
+  private boolean change(int i) {
+    tier = i;
+    overloaded = 0;
+    headroom = 0;
+    cooldown = cooldownWindows;
+    return true;
+  }
+
+  private float p90(float[] values) {
+    System.arraycopy(values, 0, sorted, 0, values.length);
+    Arrays.sort(sorted);
+    return sorted[(int)Math.ceil(.9f * sorted.length) - 1];
+  }
+
+  @Override public String toString() {
+    return String.format("tier = %s (%d/%d), auto = %b, interval p90 = %.2f ms, work p90 = %.2f ms, failed upgrades = %d",
+        tiers[tier], tier, tiers.length - 1, isAuto, lastInterval * 1000, lastWork * 1000, failedUpgrades);
+  }
+}
@@ -17,6 +17,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Slider.SliderStyle;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
+import com.badlogic.gdx.utils.SnapshotArray;
 
 public final class SceneUtil {
   private SceneUtil() {}
@@ -32,6 +33,24 @@ public final class SceneUtil {
     return group.getChildren().contains(actor, true);
   }
 
+  /**
+   * @return does the actor or any of its descendants have actions.
+   */
+  public static boolean hasActions(Actor actor) {
+    if (actor.hasActions()) {
+      return true;
+    }
+    if (actor instanceof Group) {
+      SnapshotArray<Actor> children = ((Group)actor).getChildren();
+      for (int i=0; i < children.size; i++) {
+        if (hasActions(children.get(i))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
   /**
    * Turns actor visible.
    */
@@ -7,9 +7,10 @@ import com.badlogic.gdx.utils.Array;
 
 /**
  * {@link Animation} that is being played fully once in a certain point when called.
+ * Its time is advanced by {@link #update(float)}, so it follows the clock of the caller.
  */
 public class SplashAnim extends Animation<TextureRegion> {
-  private final Timestamp time  = new Timestamp();
+  private float           time  = Float.POSITIVE_INFINITY;  // since the fire, free once past the duration
   private float           x, y;
   private float           baseScale, scale;
 
@@ -26,7 +27,7 @@ public class SplashAnim extends Animation<TextureRegion> {
    * Plays animation once at this point.
    */
   public void fire(float x, float y, float scale) {
-    time.set();
+    time = 0;
     this.x = x;
     this.y = y;
     this.scale = scale;
@@ -39,9 +40,16 @@ public class SplashAnim extends Animation<TextureRegion> {
     fire(x, y, 1);
   }
 
+  /**
+   * @param delta time delta in seconds
+   */
+  public void update(float delta) {
+    time += delta;
+  }
+
   public void draw(Batch batch) {
     if (!isFree()) {
-      TextureRegion keyFrame = getKeyFrame(time.elapsedSecs(), false);
+      TextureRegion keyFrame = getKeyFrame(time, false);
       float scl = baseScale*scale,
       width = keyFrame.getRegionWidth() * scl, height = keyFrame.getRegionHeight() * scl;
       batch.draw(keyFrame, x - width/2, y - height/2, width, height);
@@ -49,6 +57,6 @@ public class SplashAnim extends Animation<TextureRegion> {
   }
 
   public boolean isFree() {
-    return time.elapsedSecs() > getAnimationDuration();
+    return time > getAnimationDuration();
   }
 }
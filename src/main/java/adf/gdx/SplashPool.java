@@ -1,20 +1,31 @@
 package adf.gdx;
 
+import static adf.gdx.BaseAppListener.dt;
+import static adf.gdx.BaseContext.updater;
+
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 
 /**
- * Array of reusable {@link SplashAnim} items.
+ * {@link FreeListPool} of {@link SplashAnim} items, which keeps the playing ones apart, so that only those are
+ * updated and drawn.
+ * While any is playing, it is registered in {@link BaseContext#updater} in the {@link Updater#PRESENTATION} phase,
+ * so the animations follow the timescaled time of the context and an idle pool costs nothing.
+ * Active while any animation is playing, so it can be registered in {@link BaseContext#idle}.
  */
-public class SplashPool extends Pool<SplashAnim> {
+public class SplashPool extends FreeListPool<SplashAnim> implements IdleDetector.Activity, Updatable {
   private float                           frameDuration;
   private Array<? extends TextureRegion>  keyFrames;
   private float                           scale;
+  private final Array<SplashAnim>         playing   = new Array<>(SplashAnim.class);  // in the order of firing
+  private int                             handle    = Updater.NONE;
 
   public SplashPool(int cap, float frameDuration, Array<? extends TextureRegion> keyFrames, float scale) {
     super(cap);
+    // a burst beyond the capacity is dropped rather than allocated mid-frame
+    setGrowth(1);
     init(cap, frameDuration, keyFrames, scale);
   }
 
@@ -39,23 +50,64 @@ public class SplashPool extends Pool<SplashAnim> {
 
   public SplashPool setScale(float scale) {
     this.scale = scale;
-    for (SplashAnim anim : this) {
-      anim.setBaseScale(scale);
+    for (int i=0; i < size(); i++) {
+      get(i).setBaseScale(scale);
     }
     return this;
   }
 
+  /**
+   * Advances the playing animations, releasing the finished ones.
+   * @param delta time delta in seconds
+   */
+  @Override public void update(float delta) {
+    int n = 0;
+    for (int i=0; i < playing.size; i++) {
+      SplashAnim anim = playing.items[i];
+      anim.update(delta);
+      if (anim.isFree()) {
+        release(anim);
+      } else {
+        playing.items[n++] = anim;
+      }
+    }
+    playing.truncate(n);
+    if (n == 0 && handle != Updater.NONE) {
+      updater.remove(handle);
+      handle = Updater.NONE;
+    }
+  }
+
+  /**
+   * Advances the playing animations by the frame delta.
+   */
+  @Override public void update() {
+    update(dt());
+  }
+
   public void draw(Batch batch) {
-    for (SplashAnim anim : this) {
-      anim.draw(batch);
+    for (int i=0; i < playing.size; i++) {
+      playing.items[i].draw(batch);
     }
   }
 
+  private SplashAnim play() {
+    SplashAnim anim = nextFreeExtra();
+    if (anim == null) {
+      return null;
+    }
+    playing.add(anim);
+    if (handle == Updater.NONE) {
+      handle = updater.add(this, Updater.PRESENTATION, 0);
+    }
+    return anim;
+  }
+
   /**
    * Plays animation once at this point.
    */
   public void fire(float x, float y) {
-    SplashAnim anim = nextFree();
+    SplashAnim anim = play();
     if (anim != null) {
       anim.fire(x, y);
     }
@@ -72,7 +124,7 @@ public class SplashPool extends Pool<SplashAnim> {
    * Plays animation once at this point.
    */
   public void fire(float x, float y, float scale) {
-    SplashAnim anim = nextFree();
+    SplashAnim anim = play();
     if (anim != null) {
       anim.fire(x, y, scale);
     }
@@ -85,11 +137,23 @@ public class SplashPool extends Pool<SplashAnim> {
     fire(pos.x, pos.y, scale);
   }
 
-  @Override public SplashAnim newObj() {
-    return new SplashAnim(frameDuration, keyFrames, scale);
+  /**
+   * @return number of the playing animations.
+   */
+  public int playingCount() {
+    return playing.size;
   }
 
-  @Override public boolean isFree(SplashAnim obj) {
-    return obj.isFree();
+  @Override public void clear() {
+    super.clear();
+    playing.clear();
+  }
+
+  @Override public boolean isActive() {
+    return playing.size > 0;
+  }
+
+  @Override public SplashAnim newObj() {
+    return new SplashAnim(frameDuration, keyFrames, scale);
   }
 }
@@ -0,0 +1,377 @@
+package adf.gdx;
+
+import static aurelienribon.tweenengine.TweenCallback.*;
+
+import aurelienribon.tweenengine.Tween;
+import aurelienribon.tweenengine.TweenCallback;
+
+/**
+ * Timers kept in a hierarchical timing wheel: scheduling and cancelling take constant time and an update only
+ * visits the timers that expire and the buckets of the ticks passed, however many timers are pending.
+ * Time is counted in ticks of the resolution. The first level has a bucket per tick, each next level has a bucket
+ * per lap of the previous one, whose timers are moved down once their lap comes. Timers expire in the first update
+ * reaching the tick of their time, so they fire up to one tick late and never early.
+ * Like {@link FloatTweens}, the timers are kept in parallel primitive arrays and referred to by int handles, which
+ * become invalid once the timer is finished or cancelled.
+ * {@link TweenCallback}s receive the {@link TweenCallback#BEGIN} event in the first tick after scheduling, and the
+ * {@link TweenCallback#END} event on every expiry and {@link TweenCallback#COMPLETE} on the last one, with a null
+ * source. {@link Callback}s are called on every expiry.
+ */
+public class TimerWheel {
+  public static final int     NONE                = 0;  // invalid handle
+  public static final float   DEFAULT_RESOLUTION  = 1/120f;
+
+  private static final int    SLOT_BITS           = 6;
+  private static final int    SLOTS               = 1 << SLOT_BITS;
+  private static final int    SLOT_MASK           = SLOTS - 1;
+  private static final int    LEVELS              = 4;
+  private static final long   MAX_DELTA           = (1L << SLOT_BITS * LEVELS) - 1;  // in ticks
+  private static final int    FIRING              = SLOTS * LEVELS;  // bucket of the timers being fired
+
+  private final float         resolution;           // tick duration in seconds
+  private final int[]         heads               = new int[FIRING + 1];  // first timer of each bucket or -1
+  private long[]              expires;              // tick of the next expiry
+  private int[]               intervals;            // repetition interval in ticks
+  private int[]               repeats;              // repetitions left, -1 for infinite
+  private int[]               buckets;              // bucket of the timer, -1 marks a free slot
+  private int[]               prev;
+  private int[]               next;
+  private boolean[]           begun;
+  private TweenCallback[]     callbacks;
+  private int[]               triggers;
+  private Callback[]          calls;
+  private int[]               generations;          // bumped on every reuse of the slot to invalidate old handles
+  private int[]               free;                 // stack of free slots below high
+  private int                 freeCount;
+  private int                 high;                 // slots in use are below this
+  private int                 size;
+  private double              time;                 // seconds
+  private long                tick;                 // next tick to run
+  private boolean             isPaused;
+
+  /**
+   * @param resolution tick duration in seconds
+   * @param capacity initial number of timers
+   */
+  public TimerWheel(float resolution, int capacity) {
+    this.resolution = resolution;
+    for (int i=0; i < heads.length; i++) {
+      heads[i] = -1;
+    }
+    allocate(Math.max(1, capacity));
+  }
+
+  public TimerWheel() {
+    this(DEFAULT_RESOLUTION, 64);
+  }
+
+  private void allocate(int capacity) {
+    int old = expires != null ? expires.length : 0;
+    expires = copy(expires, new long[capacity]);
+    intervals = copy(intervals, new int[capacity]);
+    repeats = copy(repeats, new int[capacity]);
+    buckets = copy(buckets, new int[capacity]);
+    prev = copy(prev, new int[capacity]);
+    next = copy(next, new int[capacity]);
+    begun = copy(begun, new boolean[capacity]);
+    callbacks = copy(callbacks, new TweenCallback[capacity]);
+    triggers = copy(triggers, new int[capacity]);
+    calls = copy(calls, new Callback[capacity]);
+    generations = copy(generations, new int[capacity]);
+    free = copy(free, new int[capacity]);
+    for (int i=old; i < capacity; i++) {
+      buckets[i] = -1;
+    }
+  }
+
+  private static <T> T copy(T src, T dst) {
+    if (src != null) {
+      System.arraycopy(src, 0, dst, 0, java.lang.reflect.Array.getLength(src));
+    }
+    return dst;
+  }
+
+  private int obtainSlot() {
+    if (freeCount > 0) {
+      return free[--freeCount];
+    }
+    if (high == expires.length) {
+      if (high == 0xffff) {
+        throw new IllegalStateException("Too many timers");
+      }
+      allocate(Math.min(0xffff, high * 2));
+    }
+    return high++;
+  }
+
+  private void freeSlot(int i) {
+    buckets[i] = -1;
+    callbacks[i] = null;
+    calls[i] = null;
+    generations[i] = (generations[i] + 1) & 0x7fff;
+    free[freeCount++] = i;
+    size--;
+  }
+
+  private int handle(int i) {
+    // the generation is offset by one, so that a handle is never NONE
+    return (generations[i] + 1) << 16 | i;
+  }
+
+  /**
+   * @return slot of the handle or -1 if it isn't valid anymore.
+   */
+  private int slot(int handle) {
+    int i = handle & 0xffff;
+    return handle != NONE && i < high && buckets[i] >= 0 && handle(i) == handle ? i : -1;
+  }
+
+  private void link(int i, int bucket) {
+    buckets[i] = bucket;
+    prev[i] = -1;
+    next[i] = heads[bucket];
+    if (heads[bucket] >= 0) {
+      prev[heads[bucket]] = i;
+    }
+    heads[bucket] = i;
+  }
+
+  private void unlink(int i) {
+    if (prev[i] >= 0) {
+      next[prev[i]] = next[i];
+    } else {
+      heads[buckets[i]] = next[i];
+    }
+    if (next[i] >= 0) {
+      prev[next[i]] = prev[i];
+    }
+  }
+
+  /**
+   * Links the timer to the bucket of its expiry: the lowest level whose lap covers it.
+   */
+  private void insert(int i) {
+    if (expires[i] < tick) {
+      expires[i] = tick;
+    }
+    long e = expires[i];
+    long delta = e - tick;
+    if (delta > MAX_DELTA) {
+      // placed in the last bucket of the top level and moved again once its lap comes
+      e = tick + MAX_DELTA;
+      delta = MAX_DELTA;
+    }
+    int level = 0;
+    while (level < LEVELS - 1 && delta >= 1L << SLOT_BITS * (level + 1)) {
+      level++;
+    }
+    link(i, level * SLOTS + (int)(e >>> SLOT_BITS * level & SLOT_MASK));
+  }
+
+  /**
+   * Schedules a timer.
+   * @param delay delay of the first expiry in seconds
+   * @param interval interval of the repetitions in seconds, at least one tick
+   * @param r number of repetitions or {@link Tween#INFINITY}
+   * @param cb callback or null
+   * @param cbTriggers callback event flags
+   * @return handle of the timer.
+   */
+  public int schedule(float delay, float interval, int r, TweenCallback cb, int cbTriggers) {
+    return schedule(delay, interval, r, cb, cbTriggers, null);
+  }
+
+  /**
+   * Schedules a timer expiring once.
+   * @param cb callback notified of the {@link TweenCallback#COMPLETE} event
+   */
+  public int schedule(float delay, TweenCallback cb) {
+    return schedule(delay, 0, 0, cb, COMPLETE, null);
+  }
+
+  /**
+   * Schedules a timer calling the callback on every expiry.
+   * @param delay delay of the first expiry in seconds
+   * @param interval interval of the repetitions in seconds, at least one tick
+   * @param r number of repetitions or {@link Tween#INFINITY}
+   * @return handle of the timer.
+   */
+  public int schedule(float delay, float interval, int r, Callback cb) {
+    return schedule(delay, interval, r, null, 0, cb);
+  }
+
+  /**
+   * Schedules a timer calling the callback once.
+   */
+  public int schedule(float delay, Callback cb) {
+    return schedule(delay, 0, 0, null, 0, cb);
+  }
+
+  private int schedule(float delay, float interval, int r, TweenCallback cb, int cbTriggers, Callback call) {
+    int i = obtainSlot();
+    expires[i] = (long)Math.ceil((time + delay) / resolution);
+    intervals[i] = Math.max(1, Math.round(interval / resolution));
+    repeats[i] = r < 0 ? -1 : r;
+    callbacks[i] = cb;
+    triggers[i] = cbTriggers;
+    calls[i] = call;
+    begun[i] = cb == null || (cbTriggers & BEGIN) == 0;
+    size++;
+    if (begun[i]) {
+      insert(i);
+    } else {
+      // runs in the next tick to begin, then goes to its expiry
+      link(i, (int)(tick & SLOT_MASK));
+    }
+    return handle(i);
+  }
+
+  /**
+   * @return is the timer of the handle neither finished nor cancelled.
+   */
+  public boolean isRunning(int handle) {
+    return slot(handle) >= 0;
+  }
+
+  /**
+   * Cancels the timer of the handle, without calling its callback. Does nothing if it is no longer running.
+   * @return was the timer running.
+   */
+  public boolean cancel(int handle) {
+    int i = slot(handle);
+    if (i < 0) {
+      return false;
+    }
+    unlink(i);
+    freeSlot(i);
+    return true;
+  }
+
+  /**
+   * @return seconds left to the next expiry of the timer of the handle or -1 if it isn't running.
+   */
+  public float timeLeft(int handle) {
+    int i = slot(handle);
+    return i < 0 ? -1 : Math.max(0, (float)(expires[i] * resolution - time));
+  }
+
+  public void killAll() {
+    for (int i=0; i < high; i++) {
+      if (buckets[i] >= 0) {
+        freeSlot(i);
+      }
+    }
+    for (int i=0; i < heads.length; i++) {
+      heads[i] = -1;
+    }
+  }
+
+  /**
+   * @return number of pending timers.
+   */
+  public int size() {
+    return size;
+  }
+
+  public float resolution() {
+    return resolution;
+  }
+
+  public void pause() {
+    isPaused = true;
+  }
+
+  public void resume() {
+    isPaused = false;
+  }
+
+  public boolean isPaused() {
+    return isPaused;
+  }
+
+  /**
+   * Advances the time, running the timers of the passed ticks.
+   * @param delta time delta in seconds
+   */
+  public void update(float delta) {
+    if (isPaused) {
+      return;
+    }
+    time += delta;
+    long last = (long)(time / resolution);
+    while (tick <= last) {
+      if (size == 0) {
+        // no buckets to visit
+        tick = last + 1;
+        break;
+      }
+      runTick();
+    }
+  }
+
+  private void runTick() {
+    int slot = (int)(tick & SLOT_MASK);
+    // moves down the buckets whose lap begins, a level is reached only at the start of the lap of the one above
+    for (int level=1; level < LEVELS && (tick & (1L << SLOT_BITS * level) - 1) == 0; level++) {
+      cascade(level * SLOTS + (int)(tick >>> SLOT_BITS * level & SLOT_MASK));
+    }
+    // detached, so that timers scheduled by the callbacks into the same bucket wait for the next lap
+    int i = heads[slot];
+    heads[slot] = -1;
+    heads[FIRING] = i;
+    for (; i >= 0; i = next[i]) {
+      buckets[i] = FIRING;
+    }
+    tick++;
+    while ((i = heads[FIRING]) >= 0) {
+      unlink(i);
+      fire(i);
+    }
+  }
+
+  private void cascade(int bucket) {
+    int i = heads[bucket];
+    heads[bucket] = -1;
+    while (i >= 0) {
+      int n = next[i];
+      insert(i);
+      i = n;
+    }
+  }
+
+  /**
+   * Runs the timer, which is unlinked.
+   */
+  private void fire(int i) {
+    if (!begun[i]) {
+      begun[i] = true;
+      insert(i);
+      callbacks[i].onEvent(BEGIN, null);
+      return;
+    }
+    TweenCallback cb = callbacks[i];
+    Callback call = calls[i];
+    int types = triggers[i];
+    boolean isLast = repeats[i] == 0;
+    if (isLast) {
+      freeSlot(i);
+    } else {
+      if (repeats[i] > 0) {
+        repeats[i]--;
+      }
+      // keeps the cadence, whenever the tick runs
+      expires[i] += intervals[i];
+      insert(i);
+    }
+    if (call != null) {
+      call.call();
+    }
+    // the timer is already rescheduled or freed, so the callbacks may cancel or reuse it
+    if (cb != null && (types & END) != 0) {
+      cb.onEvent(END, null);
+    }
+    if (cb != null && (types & COMPLETE) != 0 && isLast) {
+      cb.onEvent(COMPLETE, null);
+    }
+  }
+}
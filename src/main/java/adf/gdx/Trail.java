@@ -20,6 +20,9 @@ public class Trail {
   private final Vector2             lastPoint           = new Vector2();
   private final Vector2             tmpv2               = new Vector2();
   private final Array<Vector2>      tmpv2a              = new Array<>(Vector2.class);
+  // smoothing outputs, alternated between the iterations since each one reads the previous one's points
+  private final Array<Vector2>      bank0               = new Array<>(Vector2.class);
+  private final Array<Vector2>      bank1               = new Array<>(Vector2.class);
   private TrailMesh                 mesh;
   private Texture                   tex;
 
@@ -68,11 +71,11 @@ public class Trail {
     if (simplifyIterations <= 0) {
       output.addAll(input);
     } else if (simplifyIterations == 1) {
-      smooth(input, output);
+      smooth(input, output, bank0);
     } else {
       int i = simplifyIterations;
       do {
-        smooth(input, output);
+        smooth(input, output, (i & 1) == 0 ? bank0 : bank1);
         tmpv2a.clear();
         tmpv2a.addAll(output);
         Array<Vector2> old = output;
@@ -86,16 +89,27 @@ public class Trail {
     resolve(points, simplified);
   }
 
+  /**
+   * Allocates the new points, per-frame callers pass a bank to {@link #smooth(Array, Array, Array)} instead.
+   */
   public static void smooth(Array<Vector2> input, Array<Vector2> output) {
+    smooth(input, output, new Array<>(Vector2.class));
+  }
+
+  /**
+   * @param bank vectors reused for the new points, grown if needed. Mustn't hold any of the input points.
+   */
+  public static void smooth(Array<Vector2> input, Array<Vector2> output, Array<Vector2> bank) {
     output.clear();
     output.ensureCapacity(input.size*2);
     output.add(input.get(0));
 
+    int n = 0;
     for (int i=0; i < input.size - 1; i++) {
       Vector2 p0 = input.get(i);
       Vector2 p1 = input.get(i+1);
-      Vector2 Q = new Vector2(p0.x*.75f + p1.x*.25f, p0.y*.75f + p1.y*.25f);
-      Vector2 R = new Vector2(p0.x*.25f + p1.x*.75f, p0.y*.25f + p1.y*.75f);
+      Vector2 Q = obtain(bank, n++).set(p0.x*.75f + p1.x*.25f, p0.y*.75f + p1.y*.25f);
+      Vector2 R = obtain(bank, n++).set(p0.x*.25f + p1.x*.75f, p0.y*.25f + p1.y*.75f);
       output.add(Q);
       output.add(R);
     }
@@ -103,10 +117,20 @@ public class Trail {
     output.add(input.get(input.size - 1));
   }
 
+  /**
+   * @return vector of the bank at the index, adding new ones up to it.
+   */
+  static Vector2 obtain(Array<Vector2> bank, int i) {
+    while (bank.size <= i) {
+      bank.add(new Vector2());
+    }
+    return bank.get(i);
+  }
+
   public static void simplify(Array<Vector2> points, float sqTolerance, Array<Vector2> out) {
     int len = points.size;
-    Vector2 point = new Vector2();
     Vector2 prevPoint = points.get(0);
+    Vector2 point = prevPoint;
     out.clear();
     out.add(prevPoint);
 
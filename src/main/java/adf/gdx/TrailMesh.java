@@ -15,6 +15,8 @@ public class TrailMesh {
   public final Array<Vector2>           texcoord  = new Array<>();
   public final Array<Vector2>           tristrip  = new Array<>();
   public final Vector2                  perp      = new Vector2();
+  private final Array<Vector2>          bank      = new Array<>(Vector2.class);  // reused vertices and texture coordinates
+  private int                           banked;
   public Color                          color     = Color.CLEAR;
   public int                            batchSize;
 
@@ -32,10 +34,10 @@ public class TrailMesh {
       Vector2 p = input.get(0);
       Vector2 p2 = input.get(1);
       perp.set(p).sub(p2).scl(endcap);
-      tristrip.add(new Vector2(p.x + perp.x, p.y + perp.y));
+      tristrip.add(vec(p.x + perp.x, p.y + perp.y));
     }
 
-    texcoord.add(new Vector2(0,0));
+    texcoord.add(vec(0,0));
     for (int i=1; i < input.size-1; i++) {
       Vector2 p = input.get(i);
       Vector2 p2 = input.get(i + 1);
@@ -47,10 +49,10 @@ public class TrailMesh {
       perp.scl(thick/2);
       perp.scl(mult);
 
-      tristrip.add(new Vector2(p.x + perp.x, p.y + perp.y));
-      texcoord.add(new Vector2(0, 0));
-      tristrip.add(new Vector2(p.x, p.y));
-      texcoord.add(new Vector2(1, 0));
+      tristrip.add(vec(p.x + perp.x, p.y + perp.y));
+      texcoord.add(vec(0, 0));
+      tristrip.add(vec(p.x, p.y));
+      texcoord.add(vec(1, 0));
     }
 
     if (endcap <= 0) {
@@ -60,16 +62,24 @@ public class TrailMesh {
       Vector2 p2 = input.get(input.size-1);
 
       perp.set(p2).sub(p).scl(endcap);
-      tristrip.add(new Vector2(p2.x + perp.x, p2.y + perp.y));
+      tristrip.add(vec(p2.x + perp.x, p2.y + perp.y));
     }
 
-    texcoord.add(new Vector2(0,0));
+    texcoord.add(vec(0,0));
     return tristrip.size - c;
   }
 
+  /**
+   * @return the next vector of the bank set to the given coordinates.
+   */
+  protected Vector2 vec(float x, float y) {
+    return Trail.obtain(bank, banked++).set(x, y);
+  }
+
   public void update(Array<Vector2> input) {
     tristrip.clear();
     texcoord.clear();
+    banked = 0;
 
     if (input.size < 2) {
       return;
@@ -0,0 +1,88 @@
+package adf.gdx;
+
+import aurelienribon.tweenengine.TweenManager;
+
+/**
+ * {@link TweenManager}s owned by a context: general purpose, timescaled and UI, a {@link FloatTweens} engine
+ * running along with the general purpose one, and {@link TimerWheel}s of the real and the timescaled time.
+ * Paused while the context is hidden, so its tweens don't tick, and killed on its disposal, so they don't keep
+ * its actors and callbacks in memory.
+ */
+public class TweenDomain {
+  public final IndexedTweenManager  tweenMgr    = new IndexedTweenManager("tweens");     // general tween manager
+  public final IndexedTweenManager  tscTweenMgr = new IndexedTweenManager("tsc tweens"); // timescaled tween manager
+  public final IndexedTweenManager  uiTweenMgr  = new IndexedTweenManager("ui tweens");  // UI tween manager
+  public final FloatTweens          floatTweens = new FloatTweens();          // scalar fades
+  public final TimerWheel           timers      = new TimerWheel();           // timers of the real time
+  public final TimerWheel           tscTimers   = new TimerWheel();           // timescaled timers
+  private boolean                   isPaused;
+
+  public void pause() {
+    if (!isPaused) {
+      isPaused = true;
+      tweenMgr.pause();
+      tscTweenMgr.pause();
+      uiTweenMgr.pause();
+      floatTweens.pause();
+      timers.pause();
+      tscTimers.pause();
+    }
+  }
+
+  public void resume() {
+    if (isPaused) {
+      isPaused = false;
+      tweenMgr.resume();
+      tscTweenMgr.resume();
+      uiTweenMgr.resume();
+      floatTweens.resume();
+      timers.resume();
+      tscTimers.resume();
+    }
+  }
+
+  public boolean isPaused() {
+    return isPaused;
+  }
+
+  /**
+   * Kills all tweens of all managers and frees them at once, so they don't hold their targets until the next update.
+   * Cancels all timers.
+   */
+  public void killAll() {
+    tweenMgr.killAll();
+    tscTweenMgr.killAll();
+    uiTweenMgr.killAll();
+    floatTweens.killAll();
+    timers.killAll();
+    tscTimers.killAll();
+    // the killed ones are removed before updating
+    tweenMgr.update(0);
+    tscTweenMgr.update(0);
+    uiTweenMgr.update(0);
+  }
+
+  /**
+   * @return description of the counters of all managers.
+   * @see IndexedTweenManager#report()
+   */
+  public String report() {
+    return tweenMgr.report() + "\n" + tscTweenMgr.report() + "\n" + uiTweenMgr.report() + "\n"
+        + String.format("float tweens: %d running\ntimers: %d pending, %d timescaled", floatTweens.size(),
+        timers.size(), tscTimers.size());
+  }
+
+  public void resetStats() {
+    tweenMgr.resetStats();
+    tscTweenMgr.resetStats();
+    uiTweenMgr.resetStats();
+  }
+
+  /**
+   * @return number of tweens and timelines of all managers, float tweens and timers.
+   */
+  public int size() {
+    return tweenMgr.size() + tscTweenMgr.size() + uiTweenMgr.size() + floatTweens.size() + timers.size()
+        + tscTimers.size();
+  }
+}
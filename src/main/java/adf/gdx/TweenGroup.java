@@ -0,0 +1,221 @@
+package adf.gdx;
+
+import adf.gdx.utils.Soft;
+
+import aurelienribon.tweenengine.Tween;
+import aurelienribon.tweenengine.TweenAccessor;
+import aurelienribon.tweenengine.primitives.MutableFloat;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Actors and sprites tweened as a single target: one tween and one accessor call per frame drive all of them,
+ * instead of a tween per item.
+ * Each item goes from its own value at the start of the tween to the shared target, so items at different values
+ * don't jump. The tweened values are weighted to allow that: the first one is the progress, tweened from 0 to 1,
+ * the rest are the targets multiplied by it, tweened from 0 to the targets, so that an item is at
+ * {@code start * (1 - progress) + target * progress}. Tween to 1 followed by the targets, e.g. by
+ * {@link #$fade(float, float)}. Acts as its own {@link TweenAccessor}, the same way as {@link MutableFloat}.
+ * {@link #A}: progress, alpha,
+ * {@link #RGB}: progress, red, green, blue, which needs 4 combined attributes, set by {@link BaseAppListener},
+ * {@link #SCALE}: progress, scale x, scale y.
+ */
+public class TweenGroup implements TweenAccessor<TweenGroup> {
+  public static final int       A = 0, RGB = 1, SCALE = 2;
+  private static final int[]    channels  = {1, 3, 2};  // values per item by type
+
+  private final Array<Actor>    actors    = new Array<>(false, 16, Actor.class);
+  private final Array<Sprite>   sprites   = new Array<>(false, 16, Sprite.class);
+  private final float[][]       starts    = {new float[16], new float[48], new float[32]};  // by type, actors first
+  private final int[]           captured  = new int[channels.length];  // items with their starts by type
+  private final float[][]       applied   = {new float[2], new float[4], new float[3]};  // last values by type
+  private final float[]         buffer    = new float[3];
+
+  public TweenGroup(Actor... actors) {
+    add(actors);
+  }
+
+  public TweenGroup add(Actor... a) {
+    actors.addAll(a);
+    recapture();
+    return this;
+  }
+
+  public TweenGroup add(Sprite... a) {
+    sprites.addAll(a);
+    recapture();
+    return this;
+  }
+
+  public TweenGroup add(Array<? extends Actor> a) {
+    actors.addAll(a);
+    recapture();
+    return this;
+  }
+
+  public boolean remove(Actor a) {
+    recapture();
+    return actors.removeValue(a, true);
+  }
+
+  public boolean remove(Sprite a) {
+    recapture();
+    return sprites.removeValue(a, true);
+  }
+
+  public void clear() {
+    actors.clear();
+    sprites.clear();
+    recapture();
+  }
+
+  /**
+   * The items may have moved, running tweens continue them from their current values.
+   */
+  private void recapture() {
+    for (int i=0; i < captured.length; i++) {
+      captured[i] = 0;
+    }
+  }
+
+  public int size() {
+    return actors.size + sprites.size;
+  }
+
+  /**
+   * @param a alpha
+   * @param d duration
+   * @return handle to fade the items' opacity.
+   */
+  public Tween $fade(float a, float d) {
+    return Tween.to(this, A, d).target(1, a).ease(Soft.INOUT);
+  }
+
+  /**
+   * @param clr color
+   * @param d duration
+   * @return handle to tween the items' color.
+   */
+  public Tween $fadeColor(Color clr, float d) {
+    return Tween.to(this, RGB, d).target(1, clr.r, clr.g, clr.b).ease(Soft.INOUT);
+  }
+
+  public void setAlpha(float a) {
+    for (int i=0; i < actors.size; i++) {
+      actors.items[i].getColor().a = a;
+    }
+    for (int i=0; i < sprites.size; i++) {
+      sprites.items[i].setAlpha(a);
+    }
+  }
+
+  /**
+   * Captures the start values of the items and returns the weighted values at progress 0.
+   */
+  @Override public int getValues(TweenGroup target, int tweenType, float[] returnValues) {
+    if (tweenType < 0 || tweenType >= channels.length) {
+      return 0;
+    }
+    int n = channels[tweenType];
+    for (int i=0; i <= n; i++) {
+      returnValues[i] = 0;
+      applied[tweenType][i] = 0;
+    }
+    captured[tweenType] = 0;
+    capture(tweenType);
+    return n + 1;
+  }
+
+  /**
+   * Captures the start values of the items that have none, continuing them from their current values.
+   */
+  private void capture(int type) {
+    int n = channels[type], size = size();
+    if (starts[type].length < size * n) {
+      float[] a = new float[size * n * 2];
+      System.arraycopy(starts[type], 0, a, 0, captured[type] * n);
+      starts[type] = a;
+    }
+    float[] values = applied[type];
+    float e = values[0];
+    for (int i=captured[type]; i < size; i++) {
+      read(i, type, buffer);
+      for (int j=0; j < n; j++) {
+        // solved for the start from the current value at the last progress
+        starts[type][i*n+j] = e < 1 ? (buffer[j] - values[1+j]) / (1 - e) : buffer[j];
+      }
+    }
+    captured[type] = size;
+  }
+
+  @Override public void setValues(TweenGroup target, int tweenType, float[] newValues) {
+    if (tweenType < 0 || tweenType >= channels.length) {
+      return;
+    }
+    capture(tweenType);
+    int n = channels[tweenType], size = size();
+    System.arraycopy(newValues, 0, applied[tweenType], 0, n + 1);
+    float e = newValues[0];
+    float[] s = starts[tweenType];
+    for (int i=0; i < size; i++) {
+      for (int j=0; j < n; j++) {
+        buffer[j] = s[i*n+j] * (1 - e) + newValues[1+j];
+      }
+      write(i, tweenType, buffer);
+    }
+  }
+
+  private void read(int i, int type, float[] out) {
+    Actor actor = i < actors.size ? actors.items[i] : null;
+    Sprite sprite = actor == null ? sprites.items[i - actors.size] : null;
+    Color clr = actor != null ? actor.getColor() : sprite.getColor();
+    switch (type) {
+    case A:
+      out[0] = clr.a;
+      break;
+    case RGB:
+      out[0] = clr.r;
+      out[1] = clr.g;
+      out[2] = clr.b;
+      break;
+    case SCALE:
+      out[0] = actor != null ? actor.getScaleX() : sprite.getScaleX();
+      out[1] = actor != null ? actor.getScaleY() : sprite.getScaleY();
+      break;
+    }
+  }
+
+  private void write(int i, int type, float[] v) {
+    Actor actor = i < actors.size ? actors.items[i] : null;
+    Sprite sprite = actor == null ? sprites.items[i - actors.size] : null;
+    switch (type) {
+    case A:
+      if (actor != null) {
+        actor.getColor().a = v[0];
+      } else {
+        sprite.setAlpha(v[0]);
+      }
+      break;
+    case RGB:
+      if (actor != null) {
+        Color clr = actor.getColor();
+        clr.r = v[0];
+        clr.g = v[1];
+        clr.b = v[2];
+      } else {
+        sprite.setColor(v[0], v[1], v[2], sprite.getColor().a);
+      }
+      break;
+    case SCALE:
+      if (actor != null) {
+        actor.setScale(v[0], v[1]);
+      } else {
+        sprite.setScale(v[0], v[1]);
+      }
+      break;
+    }
+  }
+}
@@ -0,0 +1,383 @@
+package adf.gdx;
+
+import static aurelienribon.tweenengine.TweenCallback.*;
+
+import aurelienribon.tweenengine.BaseTween;
+import aurelienribon.tweenengine.Timeline;
+import aurelienribon.tweenengine.Tween;
+import aurelienribon.tweenengine.TweenAccessor;
+import aurelienribon.tweenengine.TweenCallback;
+import aurelienribon.tweenengine.TweenEquation;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Shape of a timeline described once and played by pooled {@link Instance instances}, instead of pushing
+ * and building a {@link Timeline} of {@link Tween}s on every start.
+ * Like a timeline, it is a tree of sequences and parallels of tweens, sets and calls, but their targets,
+ * values, durations and callbacks refer to parameter slots which are filled in for each instance.
+ * Tweens of a null target are skipped, so that optional targets, e.g. some of the UI layers, share one template.
+ * Unlike a timeline, an instance can't be pushed to another timeline, repeated or played backwards.
+ * The template is frozen once the first instance is obtained.
+ */
+public class TweenTemplate {
+  private static final int  SEQUENCE = 0, PARALLEL = 1, TWEEN = 2, CALL = 3;
+
+  private final int             targetCount;
+  private final int             valueCount;       // value parameters, followed by the constants
+  private final int             callbackCount;
+  private final IntArray        kinds       = new IntArray();
+  private final IntArray        firstChild  = new IntArray();
+  private final IntArray        lastChild   = new IntArray();
+  private final IntArray        next        = new IntArray();    // next sibling
+  private final IntArray        targets     = new IntArray();    // slot of the target or the callback
+  private final IntArray        types       = new IntArray();
+  private final IntArray        durations   = new IntArray();    // value slot or -1 for none
+  private final IntArray        valueStart  = new IntArray();    // offset in valueSlots
+  private final IntArray        valueEnd    = new IntArray();
+  private final IntArray        valueSlots  = new IntArray();
+  private final Array<TweenEquation> equations = new Array<>();
+  private final IntArray        open        = new IntArray();    // stack of the groups being described
+  private final IntArray        constants   = new IntArray();    // float bits of the constants
+  private final Array<Instance> pool        = new Array<>(false, 4);
+  private boolean               isFrozen;
+
+  /**
+   * @param targets number of the target parameters
+   * @param values number of the value parameters, including durations
+   * @param callbacks number of the callback parameters
+   */
+  public TweenTemplate(int targets, int values, int callbacks) {
+    targetCount = targets;
+    valueCount = values;
+    callbackCount = callbacks;
+    node(SEQUENCE, -1, 0, null, -1);
+    open.add(0);
+  }
+
+  private int node(int kind, int target, int type, TweenEquation eq, int duration) {
+    checkFrozen();
+    int i = kinds.size;
+    kinds.add(kind);
+    firstChild.add(-1);
+    lastChild.add(-1);
+    next.add(-1);
+    targets.add(target);
+    types.add(type);
+    durations.add(duration);
+    valueStart.add(valueSlots.size);
+    valueEnd.add(valueSlots.size);
+    equations.add(eq);
+    if (open.size > 0) {
+      int parent = open.peek();
+      if (lastChild.get(parent) < 0) {
+        firstChild.set(parent, i);
+      } else {
+        next.set(lastChild.get(parent), i);
+      }
+      lastChild.set(parent, i);
+    }
+    return i;
+  }
+
+  /**
+   * @return value slot holding the constant, to be used in place of a parameter.
+   */
+  public int constant(float v) {
+    checkFrozen();
+    constants.add(Float.floatToIntBits(v));
+    return valueCount + constants.size - 1;
+  }
+
+  private void checkFrozen() {
+    if (isFrozen) {
+      throw new IllegalStateException("The template is already in use");
+    }
+  }
+
+  public TweenTemplate beginSequence() {
+    open.add(node(SEQUENCE, -1, 0, null, -1));
+    return this;
+  }
+
+  public TweenTemplate beginParallel() {
+    open.add(node(PARALLEL, -1, 0, null, -1));
+    return this;
+  }
+
+  public TweenTemplate end() {
+    if (open.size == 1) {
+      throw new IllegalStateException("Nothing to end");
+    }
+    open.pop();
+    return this;
+  }
+
+  /**
+   * Adds a tween to the current group.
+   * @param target target slot
+   * @param tweenType accessor tween type
+   * @param duration value slot of the duration
+   * @param eq easing equation
+   * @param values value slots of the target values
+   */
+  public TweenTemplate tween(int target, int tweenType, int duration, TweenEquation eq, int... values) {
+    int i = node(TWEEN, target, tweenType, eq, duration);
+    valueSlots.addAll(values);
+    valueEnd.set(i, valueSlots.size);
+    return this;
+  }
+
+  /**
+   * Adds an instant setting of the values to the current group.
+   * @param target target slot
+   * @param tweenType accessor tween type
+   * @param values value slots of the values
+   */
+  public TweenTemplate set(int target, int tweenType, int... values) {
+    return tween(target, tweenType, -1, null, values);
+  }
+
+  /**
+   * Adds a call of the callback with the {@link TweenCallback#START} event to the current group,
+   * the same way as {@link Tween#call(TweenCallback)}.
+   * @param callback callback slot
+   */
+  public TweenTemplate call(int callback) {
+    node(CALL, callback, 0, null, -1);
+    return this;
+  }
+
+  /**
+   * @return free instance to be filled in and started.
+   */
+  public Instance obtain() {
+    if (open.size != 1) {
+      throw new IllegalStateException("A group isn't ended");
+    }
+    isFrozen = true;
+    return pool.size > 0 ? pool.pop() : new Instance();
+  }
+
+  /**
+   * Pooled playback of the template.
+   */
+  public class Instance extends BaseTween<Instance> {
+    private final Object[]                targetParams    = new Object[targetCount];
+    private final float[]                 values          = new float[valueCount + constants.size];
+    private final TweenCallback[]         callbackParams  = new TweenCallback[callbackCount];
+    private final TweenAccessor<Object>[] accessors;
+    private final float[]                 starts          = new float[kinds.size];
+    private final float[]                 from            = new float[valueSlots.size];
+    private final byte[]                  states          = new byte[kinds.size];  // 0 waiting, 1 running, 2 done
+    private final int[]                   counts          = new int[kinds.size];   // values of the accessor
+    private final float[]                 buffer          = new float[16];  // accessor values
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Instance() {
+      accessors = new TweenAccessor[kinds.size];
+      reset();
+    }
+
+    @Override protected void reset() {
+      super.reset();
+      for (int i=0; i < targetParams.length; i++) {
+        targetParams[i] = null;
+      }
+      for (int i=0; i < callbackParams.length; i++) {
+        callbackParams[i] = null;
+      }
+      for (int i=0; i < accessors.length; i++) {
+        accessors[i] = null;
+      }
+    }
+
+    public Instance target(int slot, Object target) {
+      targetParams[slot] = target;
+      return this;
+    }
+
+    public Instance value(int slot, float v) {
+      values[slot] = v;
+      return this;
+    }
+
+    public Instance callback(int slot, TweenCallback cb) {
+      callbackParams[slot] = cb;
+      return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public Instance build() {
+      for (int i=0; i < constants.size; i++) {
+        values[valueCount + i] = Float.intBitsToFloat(constants.get(i));
+      }
+      for (int i=0; i < kinds.size; i++) {
+        states[i] = 0;
+        if (kinds.get(i) == TWEEN && targetParams[targets.get(i)] != null) {
+          accessors[i] = (TweenAccessor<Object>)findAccessor(targetParams[targets.get(i)]);
+        }
+      }
+      duration = layout(0, 0);
+      return this;
+    }
+
+    /**
+     * @return end time of the node starting at the given time.
+     */
+    private float layout(int node, float start) {
+      starts[node] = start;
+      switch (kinds.get(node)) {
+        case SEQUENCE:
+          for (int i=firstChild.get(node); i >= 0; i = next.get(i)) {
+            start = layout(i, start);
+          }
+          return start;
+        case PARALLEL:
+          float end = start;
+          for (int i=firstChild.get(node); i >= 0; i = next.get(i)) {
+            end = Math.max(end, layout(i, start));
+          }
+          return end;
+        case TWEEN:
+          return targetParams[targets.get(node)] == null ? start : start + stepDuration(node);
+        default:
+          return start;
+      }
+    }
+
+    private float stepDuration(int node) {
+      return durations.get(node) < 0 ? 0 : values[durations.get(node)];
+    }
+
+    @Override protected void updateOverride(int step, int lastStep, boolean isIterationStep, float delta) {
+      if (isIterationStep) {
+        play(getCurrentTime(), false);
+      } else if (step > lastStep) {
+        play(duration, true);
+      }
+    }
+
+    /**
+     * Runs the steps up to the time. Steps are visited in the order of description, so the consecutive ones
+     * passed within one update are applied in turn.
+     */
+    private void play(float time, boolean toEnd) {
+      for (int i=1; i < kinds.size; i++) {
+        int kind = kinds.get(i);
+        if (kind < TWEEN || states[i] == 2 || !toEnd && time < starts[i]) {
+          continue;
+        }
+        if (kind == CALL) {
+          states[i] = 2;
+          TweenCallback cb = callbackParams[targets.get(i)];
+          if (cb != null) {
+            cb.onEvent(START, this);
+          }
+          continue;
+        }
+        Object target = targetParams[targets.get(i)];
+        if (target == null) {
+          states[i] = 2;
+          continue;
+        }
+        // the start values are read once, as accessors may capture them
+        if (states[i] == 0) {
+          states[i] = 1;
+          counts[i] = accessors[i].getValues(target, types.get(i), buffer);
+          for (int j=valueStart.get(i), k=0; j < valueEnd.get(i) && k < counts[i]; j++, k++) {
+            from[j] = buffer[k];
+          }
+        }
+        int n = counts[i];
+        if (valueEnd.get(i) - valueStart.get(i) < n) {
+          // the values the step doesn't tween are kept
+          accessors[i].getValues(target, types.get(i), buffer);
+        }
+        float d = stepDuration(i);
+        float t = toEnd || d <= 0 ? 1 : Math.min(1, (time - starts[i]) / d);
+        float e = t < 1 && equations.get(i) != null ? equations.get(i).compute(t) : t;
+        for (int j=valueStart.get(i), k=0; j < valueEnd.get(i) && k < n; j++, k++) {
+          float to = values[valueSlots.get(j)];
+          buffer[k] = from[j] + (to - from[j]) * e;
+        }
+        accessors[i].setValues(target, types.get(i), buffer);
+        if (t >= 1) {
+          states[i] = 2;
+        }
+      }
+    }
+
+    @Override protected void forceStartValues() {}
+
+    @Override protected void forceEndValues() {
+      play(duration, true);
+    }
+
+    @Override protected boolean containsTarget(Object target) {
+      for (int i=0; i < targetParams.length; i++) {
+        if (targetParams[i] == target) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override protected boolean containsTarget(Object target, int tweenType) {
+      for (int i=0; i < kinds.size; i++) {
+        if (kinds.get(i) == TWEEN && types.get(i) == tweenType && targetParams[targets.get(i)] == target) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * @return number of the steps, including the groups.
+     */
+    int stepCount() {
+      return kinds.size;
+    }
+
+    /**
+     * @return target of the tween step or null.
+     */
+    Object stepTarget(int i) {
+      return kinds.get(i) == TWEEN ? targetParams[targets.get(i)] : null;
+    }
+
+    int stepType(int i) {
+      return types.get(i);
+    }
+
+    @Override public void free() {
+      reset();
+      pool.add(this);
+    }
+
+    public TweenTemplate template() {
+      return TweenTemplate.this;
+    }
+  }
+
+  /**
+   * @return accessor of the target, looked up the same way as by {@link Tween}.
+   */
+  private static TweenAccessor<?> findAccessor(Object target) {
+    TweenAccessor<?> accessor = Tween.getRegisteredAccessor(target.getClass());
+    if (accessor != null) {
+      return accessor;
+    }
+    if (target instanceof TweenAccessor) {
+      return (TweenAccessor<?>)target;
+    }
+    for (Class<?> c = target.getClass().getSuperclass(); c != null; c = c.getSuperclass()) {
+      accessor = Tween.getRegisteredAccessor(c);
+      if (accessor != null) {
+        return accessor;
+      }
+    }
+    throw new RuntimeException("No TweenAccessor was found for the target");
+  }
+}
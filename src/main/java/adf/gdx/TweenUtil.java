@@ -51,39 +51,82 @@ public final class TweenUtil {
   }
 
   /**
-   * Fades the actor's opacity.
+   * @return general tween manager of the context whose stage the actor is on, so that its tweens are paused and
+   * killed along with the context, or {@link BaseContext#appTweenMgr} if it isn't on any.
+   */
+  public static IndexedTweenManager tweenMgrOf(Actor actor) {
+    BaseContext<?> context = contextOf(actor);
+    return context != null ? context.tweens().tweenMgr : appTweenMgr;
+  }
+
+  /**
+   * @return UI tween manager of the context whose stage the actor is on, or {@link BaseContext#appUiTweenMgr} if it
+   * isn't on any.
+   */
+  public static IndexedTweenManager uiTweenMgrOf(Actor actor) {
+    BaseContext<?> context = contextOf(actor);
+    return context != null ? context.tweens().uiTweenMgr : appUiTweenMgr;
+  }
+
+  /**
+   * Fades the actor's opacity in {@code manager}, retargeting the running fade if there is one.
+   * @param a alpha
+   * @param d duration
+   */
+  public static void fadeActor(IndexedTweenManager manager, Actor target, float a, float d) {
+    int type = target instanceof Label ? LabelAccessor.A : ActorAccessor.A;
+    if (manager.retarget(target, type, d, a) == null) {
+      manager.killTarget(target, type);
+      $fadeActor(target, a, d).start(manager);
+    }
+  }
+
+  /**
+   * Fades the actor's opacity in the manager of its context, retargeting the running fade if there is one.
    * @param a alpha
    * @param d duration
+   * @see #tweenMgrOf(Actor)
    */
   public static void fadeActor(Actor target, float a, float d) {
-    tweenMgr.killTarget(target, ActorAccessor.A);
-    $fadeActor(target, a, d).start(tweenMgr);
+    fadeActor(tweenMgrOf(target), target, a, d);
   }
 
   /**
-   * Fades the actor's opacity.
+   * Fades the actor's opacity, retargeting the running fade if there is one.
    * @param a alpha
    */
   public static void fadeActor(Actor target, float a) {
-    tweenMgr.killTarget(target, ActorAccessor.A);
-    $fadeActor(target, a).start(tweenMgr);
+    fadeActor(target, a, C_D);
+  }
+
+  /**
+   * Fades the actor's color in {@code manager}, retargeting the running fade if there is one.
+   * @param clr color
+   * @param d duration
+   */
+  public static void fadeActorColor(IndexedTweenManager manager, Actor target, Color clr, float d) {
+    int type = target instanceof Label ? LabelAccessor.RGB : ActorAccessor.RGB;
+    if (manager.retarget(target, type, d, clr.r, clr.g, clr.b) == null) {
+      manager.killTarget(target, type);
+      $fadeActorColor(target, clr, d).start(manager);
+    }
   }
 
   /**
+   * Fades the actor's color in the manager of its context, retargeting the running fade if there is one.
    * @param clr color
    * @param d duration
+   * @see #tweenMgrOf(Actor)
    */
   public static void fadeActorColor(Actor target, Color clr, float d) {
-    tweenMgr.killTarget(target, ActorAccessor.RGB);
-    $fadeActorColor(target, clr, d).start(tweenMgr);
+    fadeActorColor(tweenMgrOf(target), target, clr, d);
   }
 
   /**
    * @param clr color
    */
   public static void fadeActorColor(Actor target, Color clr) {
-    tweenMgr.killTarget(target, ActorAccessor.RGB);
-    $fadeActorColor(target, clr).start(tweenMgr);
+    fadeActorColor(target, clr, C_D);
   }
 
   /**
@@ -91,8 +134,7 @@ public final class TweenUtil {
    * @param d duration
    */
   public static void fadeActorColor(Actor target, String clr, float d) {
-    tweenMgr.killTarget(target, ActorAccessor.RGB);
-    $fadeActorColor(target, clr, d).start(tweenMgr);
+    fadeActorColor(target, color(clr), d);
   }
 
   /**
@@ -2,4 +2,28 @@ package adf.gdx;
 
 @FunctionalInterface public interface Updatable {
   public void update();
+
+  /**
+   * Called by the {@link Updater} instead of {@link #update()}.
+   * @param delta time passed since the previous call in seconds, the frame delta unless it is run at a lower rate
+   */
+  public default void update(float delta) {
+    update();
+  }
+
+  /**
+   * @return does it need continuous rendering, see {@link IdleDetector}.
+   */
+  public default boolean isActive() {
+    return true;
+  }
+
+  /**
+   * @return can it be updated on a worker thread along with the other parallel updatables.
+   * Such an updatable mustn't touch the scene, the tween managers, the GL context or the other updatables' state.
+   * Read once on registration.
+   */
+  public default boolean isParallel() {
+    return false;
+  }
 }
@@ -1,22 +1,560 @@
 package adf.gdx;
 
-import java.util.ArrayList;
-import java.util.List;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Updates the registered {@link Updatable}s once per frame, phase by phase: {@link #INPUT}, {@link #SIMULATION}
+ * and {@link #PRESENTATION}. Within a phase, those of a lower priority go first, the order of those of the same
+ * priority isn't defined.
+ * Registrations are referred to by int handles, which become invalid once removed. Removal swaps the last
+ * updatable of the same phase and priority in place. Registrations added or removed during the update are applied
+ * at its end, a removed updatable isn't updated anymore though, unless it is parallel, those are updated as
+ * registered at the start.
+ * Registrations may run at a lower rate, either every n-th frame or at a frequency, in which case those of the same
+ * rate are spread over the frames of its period, and every call receives the time passed since the previous one.
+ * A registration may be {@link #bind(int, Object) bound} to an owner, which is referenced weakly: it is removed
+ * along with the owner's registrations by {@link #removeOwner(Object)}, e.g. once the owning context is disposed,
+ * or once the owner is garbage collected, in which case it is counted as {@link #leaked() leaked}.
+ * Those declared {@link Updatable#isParallel() parallel} are split into chunks run on a {@link ForkJoinPool}
+ * along with the {@link #SIMULATION} phase regardless of the rates, while the rest are updated on the rendering
+ * thread, and {@link #update(float)} returns once all of them are done.
+ * The phases may also be updated separately by {@link #update(float, int, int)}, e.g. the input in real time and
+ * the rest on a timescaled clock, each phase keeping its own time and frame count for the rates.
+ */
 public class Updater {
-  private List<Updatable> list = new ArrayList<>();
+  public static final int       NONE            = 0;  // invalid handle
+  public static final int       INPUT           = 0, SIMULATION = 1, PRESENTATION = 2;
+  public static final String[]  phaseNames      = {"input", "simulation", "presentation"};
+  public static final int       STAGGER         = 16;  // slices of the period of a frequency
+
+  private Updatable[]           updatables      = new Updatable[16];  // by slot, null marks a free or a removed one
+  private Group[]               groups          = new Group[16];
+  private int[]                 positions       = new int[16];  // in the group, -1 until added to it
+  private int[]                 generations     = new int[16];  // bumped on removal to invalidate the handle
+  private double[]              lastTimes       = new double[16];  // of the previous call of the divided ones
+  private OwnerRef[]            owners          = new OwnerRef[16];
+  private final ReferenceQueue<Object> collected = new ReferenceQueue<>();  // of the collected owners
+  private long                  leaked;
+  private final IntArray        free            = new IntArray();  // free slots below high
+  private int                   high;
+  private int                   size;
+  // the last handle of each updatable, to be removed by reference
+  private final ObjectIntMap<Updatable> handles = new ObjectIntMap<>();
+  private final Array<Group>    order           = new Array<>(Group.class);  // rendering thread groups by phase and priority
+  private final Group           parallel        = new Group(-1, 0, 1, 0, 0);
+  // slots added or removed while updating
+  private final IntArray        pendingAdds     = new IntArray();
+  private final IntArray        pendingRemoves  = new IntArray();
+  private ForkJoinPool          pool            = ForkJoinPool.commonPool();
+  private Chunk[]               chunks          = new Chunk[0];  // reused every frame
+  private boolean               isUpdating;
+  private final double[]        times           = new double[phaseNames.length];  // sums of the update deltas by phase
+  private final long[]          frames          = new long[phaseNames.length];
+  public int                    minChunk        = 32;  // fewer parallel updatables per chunk aren't worth a task
+
+  /**
+   * Slots of the updatables of the same phase, priority and rate, run together.
+   */
+  private static class Group {
+    private final int   phase, priority;
+    private final int   divisor;    // frames, 1 with an interval
+    private final float interval;   // seconds, 0 for none
+    private final int   offset;     // frame of the divisor or slice of the interval
+    private double      next;       // time of the next run with an interval
+    private int[]       slots = new int[16];
+    private int         size;
+
+    private Group(int phase, int priority, int divisor, float interval, int offset) {
+      this.phase = phase;
+      this.priority = priority;
+      this.divisor = divisor;
+      this.interval = interval;
+      this.offset = offset;
+    }
+
+    private boolean isEveryFrame() {
+      return divisor == 1 && interval == 0;
+    }
+
+    private boolean hasRate(int divisor, float interval) {
+      return this.divisor == divisor && this.interval == interval;
+    }
+  }
+
+  /**
+   * Weak reference to the owner of a registration.
+   */
+  private static class OwnerRef extends WeakReference<Object> {
+    private final int handle;
+
+    private OwnerRef(Object owner, ReferenceQueue<Object> queue, int handle) {
+      super(owner, queue);
+      this.handle = handle;
+    }
+  }
+
+  /**
+   * Range of the parallel updatables.
+   */
+  @SuppressWarnings("serial")
+  private class Chunk extends RecursiveAction {
+    private Updatable[] updatables;  // the array at the start of the update, which may be grown meanwhile
+    private int         from, to;
+    private float       delta;
+
+    @Override protected void compute() {
+      run(parallel, updatables, from, to, delta);
+    }
+  }
+
+  private static void run(Group group, Updatable[] updatables, int from, int to, float delta) {
+    for (int i=from; i < to; i++) {
+      Updatable a = updatables[group.slots[i]];
+      if (a != null) {
+        a.update(delta);
+      }
+    }
+  }
+
+  /**
+   * Registers the updatable in the {@link #SIMULATION} phase with the priority 0.
+   * @return handle of the registration.
+   */
+  public int add(Updatable a) {
+    return add(a, SIMULATION, 0);
+  }
+
+  /**
+   * @param phase {@link #INPUT}, {@link #SIMULATION} or {@link #PRESENTATION}, ignored for parallel updatables
+   * @param priority lower goes first within the phase
+   * @return handle of the registration.
+   */
+  public int add(Updatable a, int phase, int priority) {
+    return add(a, phase, priority, 1, 0);
+  }
+
+  /**
+   * Registers the updatable to be run every n-th frame. Those of the same phase, priority and divisor are spread
+   * over the frames.
+   * @param divisor number of frames per call
+   * @return handle of the registration.
+   * @see #add(Updatable, int, int)
+   */
+  public int addDivided(Updatable a, int phase, int priority, int divisor) {
+    return add(a, phase, priority, Math.max(1, divisor), 0);
+  }
 
-  public void add(Updatable a) {
-    list.add(a);
+  /**
+   * Registers the updatable to be run at the frequency, at most once per frame. Those of the same phase, priority
+   * and frequency are spread over {@link #STAGGER} slices of the period.
+   * @param hz calls per second
+   * @return handle of the registration.
+   * @see #add(Updatable, int, int)
+   */
+  public int addAtRate(Updatable a, int phase, int priority, float hz) {
+    return add(a, phase, priority, 1, 1 / hz);
   }
 
+  private int add(Updatable a, int phase, int priority, int divisor, float interval) {
+    int i = obtainSlot();
+    updatables[i] = a;
+    groups[i] = a.isParallel() ? parallel : group(phase, priority, divisor, interval);
+    positions[i] = -1;
+    lastTimes[i] = times[phase(groups[i])];
+    size++;
+    if (isUpdating) {
+      pendingAdds.add(i);
+    } else {
+      append(i);
+    }
+    int h = handle(i);
+    handles.put(a, h);
+    return h;
+  }
+
+  /**
+   * Removes the registration of the handle. Does nothing if it is already removed.
+   * @return was it registered.
+   */
+  public boolean remove(int handle) {
+    int i = slot(handle);
+    if (i < 0) {
+      return false;
+    }
+    Updatable a = updatables[i];
+    if (handles.get(a, NONE) == handle) {
+      handles.remove(a, NONE);
+    }
+    if (groups[i] != parallel || !isUpdating) {
+      updatables[i] = null;
+    }
+    generations[i] = (generations[i] + 1) & 0x7fff;
+    clearOwner(i);
+    size--;
+    if (isUpdating) {
+      pendingRemoves.add(i);
+    } else {
+      release(i);
+    }
+    return true;
+  }
+
+  /**
+   * Binds the registration to the owner, which must not be strongly referenced by the updatable, otherwise it is
+   * never collected.
+   * @return the handle.
+   */
+  public int bind(int handle, Object owner) {
+    int i = slot(handle);
+    if (i >= 0) {
+      clearOwner(i);
+      owners[i] = new OwnerRef(owner, collected, handle);
+    }
+    return handle;
+  }
+
+  /**
+   * Removes all registrations bound to the owner.
+   */
+  public void removeOwner(Object owner) {
+    for (int i=0; i < high; i++) {
+      if (owners[i] != null && owners[i].get() == owner) {
+        remove(owners[i].handle);
+      }
+    }
+  }
+
+  private void clearOwner(int i) {
+    if (owners[i] != null) {
+      // a cleared reference isn't enqueued
+      owners[i].clear();
+      owners[i] = null;
+    }
+  }
+
+  /**
+   * Removes the registrations whose owners are collected.
+   */
+  private void removeCollected() {
+    for (OwnerRef ref; (ref = (OwnerRef)collected.poll()) != null;) {
+      if (remove(ref.handle)) {
+        leaked++;
+      }
+    }
+  }
+
+  /**
+   * @return number of registrations removed since their owners were garbage collected, instead of being removed
+   * explicitly.
+   */
+  public long leaked() {
+    return leaked;
+  }
+
+  /**
+   * Removes the last registration of the updatable.
+   */
   public void remove(Updatable a) {
-    list.remove(a);
+    remove(handles.get(a, NONE));
+  }
+
+  /**
+   * @return is the registration of the handle not removed.
+   */
+  public boolean contains(int handle) {
+    return slot(handle) >= 0;
+  }
+
+  /**
+   * @return number of registrations.
+   */
+  public int size() {
+    return size;
   }
 
+  private int obtainSlot() {
+    if (free.size > 0) {
+      return free.pop();
+    }
+    if (high == updatables.length) {
+      if (high == 0xffff) {
+        throw new IllegalStateException("Too many updatables");
+      }
+      int n = Math.min(0xffff, high * 2);
+      updatables = copy(updatables, new Updatable[n]);
+      groups = copy(groups, new Group[n]);
+      positions = copy(positions, new int[n]);
+      generations = copy(generations, new int[n]);
+      lastTimes = copy(lastTimes, new double[n]);
+      owners = copy(owners, new OwnerRef[n]);
+    }
+    return high++;
+  }
+
+  private static <T> T copy(T src, T dst) {
+    System.arraycopy(src, 0, dst, 0, java.lang.reflect.Array.getLength(src));
+    return dst;
+  }
+
+  private int handle(int i) {
+    // the generation is offset by one, so that a handle is never NONE
+    return (generations[i] + 1) << 16 | i;
+  }
+
+  /**
+   * @return slot of the handle or -1 if it isn't valid anymore.
+   */
+  private int slot(int handle) {
+    int i = handle & 0xffff;
+    return handle != NONE && i < high && updatables[i] != null && handle(i) == handle ? i : -1;
+  }
+
+  /**
+   * @return least populated group of the phase, the priority and the rate, or a new one inserted in order
+   * while any of the offsets has none.
+   */
+  private Group group(int phase, int priority, int divisor, float interval) {
+    int offsets = interval > 0 ? STAGGER : divisor;
+    Group least = null;
+    int count = 0, i = 0;
+    for (; i < order.size; i++) {
+      Group g = order.items[i];
+      if (g.phase > phase || g.phase == phase && g.priority > priority) {
+        break;
+      }
+      if (g.phase == phase && g.priority == priority && g.hasRate(divisor, interval)) {
+        if (least == null || g.size < least.size) {
+          least = g;
+        }
+        count++;
+      }
+    }
+    if (count == offsets || least != null && least.size == 0) {
+      return least;
+    }
+    int offset = 0;
+    while (hasGroup(phase, priority, divisor, interval, offset)) {
+      offset++;
+    }
+    Group g = new Group(phase, priority, divisor, interval, offset);
+    g.next = times[phase] + interval * offset / STAGGER;
+    order.insert(i, g);
+    return g;
+  }
+
+  /**
+   * @return phase whose time the group follows.
+   */
+  private int phase(Group g) {
+    return g == parallel ? SIMULATION : g.phase;
+  }
+
+  private boolean hasGroup(int phase, int priority, int divisor, float interval, int offset) {
+    for (int i=0; i < order.size; i++) {
+      Group g = order.items[i];
+      if (g.phase == phase && g.priority == priority && g.hasRate(divisor, interval) && g.offset == offset) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void append(int i) {
+    Group g = groups[i];
+    if (g.size == g.slots.length) {
+      g.slots = copy(g.slots, new int[g.size * 2]);
+    }
+    positions[i] = g.size;
+    g.slots[g.size++] = i;
+  }
+
+  /**
+   * Swaps the last slot of the group in place of the removed one and frees it.
+   */
+  private void release(int i) {
+    Group g = groups[i];
+    int pos = positions[i];
+    if (pos >= 0) {
+      int last = g.slots[--g.size];
+      g.slots[pos] = last;
+      positions[last] = pos;
+    }
+    updatables[i] = null;
+    groups[i] = null;
+    free.add(i);
+  }
+
+  /**
+   * Sets the pool running the parallel updatables, {@link ForkJoinPool#commonPool()} by default.
+   */
+  public void setPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  public ForkJoinPool pool() {
+    return pool;
+  }
+
+  /**
+   * Runs all updatables with no time delta.
+   */
   public void update() {
-    for (Updatable i : list) {
-      i.update();
+    update(0);
+  }
+
+  /**
+   * Runs the updatables of all phases.
+   * @param delta time delta in seconds
+   */
+  public void update(float delta) {
+    update(delta, INPUT, PRESENTATION);
+  }
+
+  /**
+   * Runs the updatables of the phases in the range, the parallel ones along with {@link #SIMULATION}.
+   * @param delta time delta in seconds
+   * @param fromPhase first phase
+   * @param toPhase last phase, inclusive
+   */
+  public void update(float delta, int fromPhase, int toPhase) {
+    removeCollected();
+    for (int p=fromPhase; p <= toPhase; p++) {
+      times[p] += delta;
+      frames[p]++;
+    }
+    int n = fromPhase <= SIMULATION && SIMULATION <= toPhase ? parallel.size : 0;
+    int count = Math.min(pool.getParallelism() + 1, n / Math.max(1, minChunk));
+    if (count > chunks.length) {
+      Chunk[] a = new Chunk[count];
+      System.arraycopy(chunks, 0, a, 0, chunks.length);
+      for (int i=chunks.length; i < count; i++) {
+        a[i] = new Chunk();
+      }
+      chunks = a;
+    }
+    isUpdating = true;
+    int submitted = 1;
+    try {
+      // the first chunk is left to this thread
+      for (; submitted < count; submitted++) {
+        Chunk chunk = chunks[submitted];
+        chunk.reinitialize();
+        chunk.updatables = updatables;
+        chunk.delta = delta;
+        chunk.from = n * submitted / count;
+        chunk.to = n * (submitted+1) / count;
+        pool.execute(chunk);
+      }
+      // the groups are neither reordered nor shrunk while updating, and the loops don't allocate
+      for (int i=0; i < order.size; i++) {
+        Group g = order.items[i];
+        if (g.phase < fromPhase) {
+          continue;
+        } else if (g.phase > toPhase) {
+          break;
+        }
+        if (g.isEveryFrame()) {
+          run(g, updatables, 0, g.size, delta);
+        } else if (isDue(g)) {
+          for (int j=0; j < g.size; j++) {
+            int slot = g.slots[j];
+            // re-read, as updatables may remove each other or grow the array
+            Updatable a = updatables[slot];
+            if (a != null) {
+              float d = (float)(times[g.phase] - lastTimes[slot]);
+              lastTimes[slot] = times[g.phase];
+              a.update(d);
+            }
+          }
+        }
+      }
+      run(parallel, updatables, 0, n / Math.max(1, count), delta);
+    } finally {
+      // the barrier, the chunks must not outlive the frame even if this thread has failed
+      for (int i=1; i < submitted; i++) {
+        chunks[i].quietlyJoin();
+        chunks[i].updatables = null;
+      }
+      isUpdating = false;
+      applyPending();
+    }
+    for (int i=1; i < count; i++) {
+      // rethrows the failure of the chunk
+      if (chunks[i].isCompletedAbnormally()) {
+        chunks[i].join();
+      }
+    }
+  }
+
+  /**
+   * @return is it the turn of the divided group, scheduling its next turn.
+   */
+  private boolean isDue(Group g) {
+    if (g.interval == 0) {
+      return (frames[g.phase] + g.offset) % g.divisor == 0;
+    }
+    double time = times[g.phase];
+    if (time < g.next) {
+      return false;
+    }
+    // skips the periods missed in a long frame, keeping the slice
+    g.next += g.interval * (1 + (long)((time - g.next) / g.interval));
+    return true;
+  }
+
+  private void applyPending() {
+    // removals first, so that registrations added and removed during the same update are dropped
+    for (int i=0; i < pendingRemoves.size; i++) {
+      release(pendingRemoves.items[i]);
+    }
+    for (int i=0; i < pendingAdds.size; i++) {
+      int slot = pendingAdds.items[i];
+      if (updatables[slot] != null) {
+        append(slot);
+      }
+    }
+    pendingRemoves.clear();
+    pendingAdds.clear();
+  }
+
+  /**
+   * @return description of the registrations.
+   */
+  public String report() {
+    int[] phases = new int[phaseNames.length];
+    for (int i=0; i < order.size; i++) {
+      phases[order.items[i].phase] += order.items[i].size;
+    }
+    int bound = 0;
+    for (int i=0; i < high; i++) {
+      if (owners[i] != null) {
+        bound++;
+      }
+    }
+    StringBuilder sb = new StringBuilder(String.format("updater: %d registered, %d parallel, %d bound to owners, " +
+        "%d leaked", size, parallel.size, bound, leaked));
+    for (int i=0; i < phases.length; i++) {
+      sb.append(String.format(", %s %d", phaseNames[i], phases[i]));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * @return is any of the updatables active.
+   */
+  public boolean isActive() {
+    for (int i=0; i < high; i++) {
+      if (updatables[i] != null && updatables[i].isActive()) {
+        return true;
+      }
     }
+    return false;
   }
 }
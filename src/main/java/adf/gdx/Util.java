@@ -3,6 +3,7 @@ package adf.gdx;
 import static adf.gdx.MathUtil.hasFlag;
 import static com.badlogic.gdx.utils.Align.*;
 
+import com.badlogic.gdx.graphics.Pixmap.Format;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -50,6 +51,25 @@ public final class Util {
 
   public static final Vector2 tmpv2 = new Vector2();
 
+  /**
+   * @return size of a pixel of the format in bytes.
+   */
+  public static int bytesPerPixel(Format format) {
+    switch (format) {
+      case Alpha:
+      case Intensity:
+        return 1;
+      case LuminanceAlpha:
+      case RGB565:
+      case RGBA4444:
+        return 2;
+      case RGB888:
+        return 3;
+      default:
+        return 4;
+    }
+  }
+
   /**
    * @return current time in milliseconds.
    */
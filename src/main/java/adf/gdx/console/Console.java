@@ -2,6 +2,7 @@ package adf.gdx.console;
 
 import static adf.gdx.Util.arrToStrf;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 
 import java.io.InputStream;
@@ -14,7 +15,7 @@ import java.util.regex.Pattern;
  * Utilizes input and output streams in a thread-safe manner. Works on the current thread, has a separate thread to read input.
  */
 public class Console {
-  private boolean                   isActive;
+  private volatile boolean          isActive;
   private InputStream               in;
   private PrintStream               out;
   private final Scanner             scanner;
@@ -24,6 +25,10 @@ public class Console {
   private final Map<String, String> aliases = new HashMap<>();
   private final List<String>        parsed  = new ArrayList<>();
 
+  private static final Pattern      wordPattern   = Pattern.compile("([^\"']\\S*|[\"'].+?[\"'])\\s*");
+  private static final Pattern      quotePattern  = Pattern.compile("[\"']");
+  private static final Pattern      linePattern   = Pattern.compile("\\r?\\n|\\$\\|");
+
   public Console(InputStream sin, PrintStream sout) {
     in = sin;
     out = sout;
@@ -87,6 +92,9 @@ public class Console {
   }
 
   public void update() {
+    if (queue.isEmpty()) {
+      return;
+    }
     Iterator<String> iter = queue.iterator();
     while (iter.hasNext()) {
       String next = iter.next();
@@ -123,10 +131,10 @@ public class Console {
 
     // parse the input into either whole words or text bounded by quotation marks
     parsed.clear();
-    Matcher m = Pattern.compile("([^\"']\\S*|[\"'].+?[\"'])\\s*").matcher(line);
+    Matcher m = wordPattern.matcher(line);
     // remove quotation marks from grouped text
     while (m.find()) {
-      parsed.add(m.group(1).replaceAll("[\"']", ""));
+      parsed.add(quotePattern.matcher(m.group(1)).replaceAll(""));
     }
     String name = parsed.get(0);
 
@@ -155,23 +163,28 @@ public class Console {
    * Evaluates given text as a command sequence.
    */
   public void parse(String data) {
-    String[] split = data.split("\\r?\\n|\\$\\|");
+    String[] split = linePattern.split(data);
     for (String line : split) {
       eval(line.trim());
     }
   }
 
   /**
-   * Reads input from {@link #in}.
+   * Reads input from {@link #in} until it is disabled or the input ends.
    */
-  private synchronized void read() {
+  private void read() {
     while (isActive) {
+      // blocks until a line is available, false means the end of input
       if (!scanner.hasNextLine()) {
-        continue;
+        break;
       }
       String line = scanner.nextLine();
       if (!line.isEmpty()) {
         queue.add(line);
+        // the rendering may be on demand
+        if (Gdx.graphics != null) {
+          Gdx.graphics.requestRendering();
+        }
       }
     }
   }
@@ -179,15 +192,18 @@ public class Console {
   public void enable() {
     if (!isActive) {
       isActive = true;
-      new Thread("Console") {
+      Thread thread = new Thread("Console") {
         @Override public void run() {
           read();
         }
-      }.start();
+      };
+      // the reader mustn't keep the app alive
+      thread.setDaemon(true);
+      thread.start();
     }
   }
 
-  public synchronized void disable() {
+  public void disable() {
     isActive = false;
   }
 
@@ -8,6 +8,10 @@ package adf.gdx.thirdparty;
 
 /**
  * A Java port of https://github.com/gre/bezier-easing.
+ * <p>Optionally, {@link #useLut(int)} precomputes the curve into a lookup table which {@link #ease(float)} then
+ * interpolates linearly instead of solving the curve on every call. The interpolation error is bounded by
+ * h^2 / 8 * max|y''(x)| for the step h = 1 / resolution, e.g. below 5e-5 for the {@code Soft} curves at the default
+ * resolution of {@link #DEFAULT_LUT_RESOLUTION}. {@link #lutError()} reports the error measured against the solver.
  */
 public class BezierEasing {
   // These values are established by empiricism with tests (tradeoff: performance VS precision)
@@ -19,9 +23,13 @@ public class BezierEasing {
   public static int kSplineTableSize = 11;
   public static float kSampleStepSize = 1.0f / (kSplineTableSize - 1.0f);
 
+  public static int DEFAULT_LUT_RESOLUTION = 256;
+
   private float mX1, mY1, mX2, mY2;
   private float[] sampleValues;
   private boolean linear;
+  private float[] lut;      // solved values at the evenly spaced x, null if disabled
+  private float lutError;   // maximum measured interpolation error
 
   public BezierEasing(float mX1, float mY1, float mX2, float mY2) {
     init(mX1, mY1, mX2, mY2);
@@ -44,6 +52,70 @@ public class BezierEasing {
     for (int i = 0; i < kSplineTableSize; ++i) {
       sampleValues[i] = calcBezier(i * kSampleStepSize, mX1, mX2);
     }
+
+    if (lut != null) {
+      useLut(lut.length - 1);
+    }
+  }
+
+  /**
+   * Precomputes the lookup table used by {@link #ease(float)} and measures its error.
+   * @param resolution number of intervals
+   */
+  public BezierEasing useLut(int resolution) {
+    if (resolution < 1) {
+      throw new IllegalArgumentException("LUT resolution must be positive.");
+    }
+    float[] table = new float[resolution + 1];
+    for (int i = 0; i <= resolution; ++i) {
+      table[i] = BezierEasing((float)i / resolution);
+    }
+    lut = table;
+    // the error peaks between the samples, so every interval is probed at several points
+    float maxError = 0;
+    for (int i = 0, n = resolution * 8; i <= n; ++i) {
+      float x = (float)i / n;
+      maxError = Math.max(maxError, Math.abs(lutEase(x) - BezierEasing(x)));
+    }
+    lutError = maxError;
+    return this;
+  }
+
+  public BezierEasing useLut() {
+    return useLut(DEFAULT_LUT_RESOLUTION);
+  }
+
+  /**
+   * Makes {@link #ease(float)} solve the curve again.
+   */
+  public BezierEasing disableLut() {
+    lut = null;
+    lutError = 0;
+    return this;
+  }
+
+  public boolean isLut() {
+    return lut != null;
+  }
+
+  /**
+   * @return maximum difference between the interpolated and the solved values, 0 if the LUT is disabled.
+   */
+  public float lutError() {
+    return lutError;
+  }
+
+  private float lutEase (float x) {
+    if (x <= 0) {
+      return 0;
+    }
+    int resolution = lut.length - 1;
+    float f = x * resolution;
+    int i = (int)f;
+    if (i >= resolution) {
+      return 1;
+    }
+    return lut[i] + (lut[i + 1] - lut[i]) * (f - i);
   }
 
   public float A (float aA1, float aA2)  { return 1.0f - 3.0f * aA2 + 3.0f * aA1; }
@@ -127,6 +199,13 @@ public class BezierEasing {
   }
 
   public float ease(float x) {
+    return linear ? LinearEasing(x) : lut != null ? lutEase(x) : BezierEasing(x);
+  }
+
+  /**
+   * @return the solved value regardless of the LUT.
+   */
+  public float solve(float x) {
     return linear ? LinearEasing(x) : BezierEasing(x);
   }
 }
@@ -123,7 +123,7 @@ public class Arc extends Widget {
   }
 
   public void set(float value) {
-    uiTweenMgr.killTarget(progress);
+    uiTweenMgrOf(this).killTarget(progress);
     progress.setValue(value);
   }
 
@@ -137,7 +137,7 @@ public class Arc extends Widget {
    * @param eq equation
    */
   public void tween(float v, float d, TweenEquation eq) {
-    $tween(v, d, eq).start(uiTweenMgr);
+    $tween(v, d, eq).start(uiTweenMgrOf(this));
   }
 
   /**
@@ -145,18 +145,18 @@ public class Arc extends Widget {
    * @param d duration
    */
   public void tween(float v, float d) {
-    $tween(v, d).start(uiTweenMgr);
+    $tween(v, d).start(uiTweenMgrOf(this));
   }
 
   /**
    * @param v value
    */
   public void tween(float v) {
-    $tween(v).start(uiTweenMgr);
+    $tween(v).start(uiTweenMgrOf(this));
   }
 
   public void tween() {
-    $tween().start(uiTweenMgr);
+    $tween().start(uiTweenMgrOf(this));
   }
 
   /**
@@ -165,7 +165,7 @@ public class Arc extends Widget {
    * @param eq equation
    */
   public Tween $tween(float v, float d, TweenEquation eq) {
-    uiTweenMgr.killTarget(progress);
+    uiTweenMgrOf(this).killTarget(progress);
     return Tween.to(progress, 0, d).target(v).ease(eq);
   }
 
@@ -1,21 +1,32 @@
 package adf.gdx.utils;
 
 import static adf.gdx.BaseContext.*;
+import static adf.gdx.Updater.INPUT;
 import static adf.gdx.Util.currentTime;
 
 import adf.gdx.Callback;
 import adf.gdx.Updatable;
+import adf.gdx.Updater;
 
+import java.lang.ref.WeakReference;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.InputListener;
 
 /**
  * {@link InputListener} that fires after it has been held for a certain amount of time.
+ * It is registered in the {@link Updater} only while held, bound to its actor, and removes itself once released,
+ * fired or its actor leaves the stage.
  */
 public class HoldInputListener extends InputListener implements Updatable {
-  private boolean   pressed, locked;
-  private long      startTime, threshold;
-  private Callback  callback;
+  public static final float RATE = 30;  // threshold checks per second
+
+  private boolean               pressed, locked;
+  private long                  startTime, threshold;
+  private Callback              callback;
+  private WeakReference<Actor>  actor;                  // while held, weak as the registration is bound to it
+  private int                   handle  = Updater.NONE;
 
   /**
    * @param threshold time in milliseconds
@@ -23,7 +34,6 @@ public class HoldInputListener extends InputListener implements Updatable {
   public HoldInputListener(long threshold, Callback cb) {
     this.threshold = threshold;
     setCallback(cb);
-    addUpdatable(this);
   }
 
   public HoldInputListener(Callback cb) {
@@ -36,19 +46,42 @@ public class HoldInputListener extends InputListener implements Updatable {
 
   @Override public boolean touchDown(InputEvent event, float x, float y, int pointer, int button) {
     pressed = true;
+    locked = false;
     startTime = currentTime();
+    Actor listenerActor = event.getListenerActor();
+    actor = new WeakReference<>(listenerActor);
+    if (!updater.contains(handle)) {
+      handle = updater.bind(updater.addAtRate(this, INPUT, 0, RATE), listenerActor);
+    }
     return true;
   }
 
   @Override public void touchUp(InputEvent event, float x, float y, int pointer, int button) {
     pressed = false;
     locked = false;
+    release();
+  }
+
+  private void release() {
+    updater.remove(handle);
+    handle = Updater.NONE;
+    actor = null;
   }
 
   @Override public void update() {
-    if (pressed && currentTime() - startTime >= threshold && !locked) {
+    Actor held = actor != null ? actor.get() : null;
+    if (held != null && held.getStage() == null) {
+      // removed while held, no touch up is coming
+      pressed = false;
+      release();
+    } else if (pressed && currentTime() - startTime >= threshold && !locked) {
       locked = true;
+      release();
       callback.call();
     }
   }
+
+  @Override public boolean isActive() {
+    return pressed && !locked;
+  }
 }
@@ -3,6 +3,7 @@ package adf.gdx.utils;
 import static adf.gdx.BaseAppListener.*;
 import static adf.gdx.BaseContext.*;
 import static adf.gdx.TweenUtil.$fadeActorColor;
+import static adf.gdx.TweenUtil.tweenMgrOf;
 import static adf.gdx.Util.C_HD;
 import static com.badlogic.gdx.graphics.Color.*;
 
@@ -83,14 +84,14 @@ public class IbClickListener extends ClickListener {
     Timeline.createParallel()
       .push($fadeActorColor(btn, bgClr, C_HD))
       .push($fadeActorColor(image, imageClr, C_HD))
-      .start(tweenMgr);
+      .start(tweenMgrOf(btn));
   }
 
   public void fadeOut() {
     Timeline.createParallel()
       .push($fadeActorColor(btn, initBgClr, C_HD))
       .push($fadeActorColor(image, initImageClr, C_HD))
-      .start(tweenMgr);
+      .start(tweenMgrOf(btn));
   }
 
   @Override public void clicked(InputEvent event, float x, float y) {
@@ -1,18 +1,22 @@
 package adf.gdx.utils;
 
+import adf.gdx.TweenTemplate;
 import adf.gdx.thirdparty.BezierEasing;
 import aurelienribon.tweenengine.Timeline;
 import aurelienribon.tweenengine.Tween;
 import aurelienribon.tweenengine.TweenEquation;
+import aurelienribon.tweenengine.TweenManager;
+
+import com.badlogic.gdx.utils.IntMap;
 
 /**
  * Bezier-based soft tween equation.
  */
 public abstract class Soft extends TweenEquation {
-  // All setups go here.
-  public static BezierEasing inout  = new BezierEasing(.25f, .1f, .25f, 1);
-  public static BezierEasing in     = new BezierEasing(.75f, 0, .9f, .75f);
-  public static BezierEasing out    = new BezierEasing(.1f, .25f, .25f, 1);
+  // All setups go here. Interpolated from lookup tables, since these run on almost every tween.
+  public static BezierEasing inout  = new BezierEasing(.25f, .1f, .25f, 1).useLut();
+  public static BezierEasing in     = new BezierEasing(.75f, 0, .9f, .75f).useLut();
+  public static BezierEasing out    = new BezierEasing(.1f, .25f, .25f, 1).useLut();
 
   public static Timeline softBounceUp(Object target, int tweenType) {
     return Timeline.createSequence()
@@ -24,6 +28,27 @@ public abstract class Soft extends TweenEquation {
     
   }
 
+  // Bounce templates by tween types, the steps are the same as in the timeline above.
+  private static final IntMap<TweenTemplate> softBounceUpTemplates = new IntMap<>();
+
+  /**
+   * Starts the bounce from a pooled template instead of building the timeline.
+   */
+  public static TweenTemplate.Instance softBounceUp(Object target, int tweenType, TweenManager manager) {
+    TweenTemplate t = softBounceUpTemplates.get(tweenType);
+    if (t == null) {
+      t = new TweenTemplate(1, 0, 0);
+      int one = t.constant(1);
+      t.tween(0, tweenType, t.constant(.25f), Soft.INOUT, t.constant(1.175f), t.constant(1.175f))
+       .tween(0, tweenType, t.constant(.05f), Soft.INOUT, t.constant(1.0875f), t.constant(1.0875f))
+       .tween(0, tweenType, t.constant(.05f), Soft.INOUT, one, one)
+       .tween(0, tweenType, t.constant(.05f), Soft.INOUT, t.constant(1.03125f), t.constant(1.03125f))
+       .tween(0, tweenType, t.constant(.1f), Soft.INOUT, one, one);
+      softBounceUpTemplates.put(tweenType, t);
+    }
+    return t.obtain().target(0, target).start(manager);
+  }
+
   public static final Soft INOUT = new Soft() {
     @Override
     public final float compute(float t) {
@@ -0,0 +1,82 @@
+package adf.gdx;
+
+import static aurelienribon.tweenengine.TweenCallback.*;
+import static org.junit.Assert.*;
+
+import aurelienribon.tweenengine.primitives.MutableFloat;
+
+import org.junit.Test;
+
+public class FloatTweensTest {
+  @Test public void testUpdate() {
+    FloatTweens tweens = new FloatTweens(1);
+    MutableFloat a = new MutableFloat(0), b = new MutableFloat(10);
+    int ha = tweens.start(a, 1, 1, null);
+    int hb = tweens.start(b, 0, 2, null, .5f, null, COMPLETE);
+    assertEquals(2, tweens.size());
+    tweens.update(.5f);
+    assertEquals(.5f, a.floatValue(), 1e-6f);
+    // the delay has just passed
+    assertEquals(10, b.floatValue(), 1e-6f);
+    tweens.update(.5f);
+    assertEquals(1, a.floatValue(), 1e-6f);
+    assertFalse(tweens.isRunning(ha));
+    assertTrue(tweens.isRunning(hb));
+    assertEquals(7.5f, b.floatValue(), 1e-6f);
+    tweens.update(2);
+    assertEquals(0, b.floatValue(), 1e-6f);
+    assertEquals(0, tweens.size());
+  }
+
+  @Test public void testHandles() {
+    FloatTweens tweens = new FloatTweens();
+    MutableFloat a = new MutableFloat(0);
+    int h1 = tweens.start(a, 1, 1, null);
+    // restarting kills the previous tween of the target, the slot is reused with another handle
+    int h2 = tweens.start(a, 2, 1, null);
+    assertNotEquals(h1, h2);
+    assertFalse(tweens.isRunning(h1));
+    assertTrue(tweens.isRunning(h2));
+    assertEquals(1, tweens.size());
+    tweens.kill(h1);
+    assertTrue(tweens.isRunning(h2));
+    tweens.killTarget(a);
+    assertFalse(tweens.isRunning(h2));
+    assertFalse(tweens.isRunning(FloatTweens.NONE));
+    assertEquals(0, tweens.size());
+  }
+
+  @Test public void testCallback() {
+    FloatTweens tweens = new FloatTweens();
+    MutableFloat a = new MutableFloat(0);
+    int[] events = new int[1];
+    tweens.start(a, 1, 1, null, 0, (type, source) -> events[0] |= type, BEGIN|COMPLETE);
+    tweens.update(.5f);
+    assertEquals(BEGIN, events[0]);
+    tweens.pause();
+    tweens.update(1);
+    assertEquals(BEGIN, events[0]);
+    tweens.resume();
+    tweens.update(1);
+    assertEquals(BEGIN|COMPLETE, events[0]);
+  }
+
+  @Test public void testRetarget() {
+    FloatTweens tweens = new FloatTweens();
+    MutableFloat a = new MutableFloat(0);
+    int[] begins = new int[1];
+    int h = tweens.to(a, 1, 1, null, (type, source) -> begins[0]++, BEGIN);
+    tweens.update(.5f);
+    assertEquals(.5f, a.floatValue(), 1e-6f);
+    // continues from the current value with the new duration, the same tween and callback
+    assertEquals(h, tweens.to(a, 2, 3, null));
+    assertEquals(1, tweens.size());
+    tweens.update(1.5f);
+    assertEquals(1.25f, a.floatValue(), 1e-6f);
+    tweens.update(1.5f);
+    assertEquals(2, a.floatValue(), 1e-6f);
+    assertEquals(1, begins[0]);
+    assertFalse(tweens.isRunning(h));
+    assertEquals(FloatTweens.NONE, tweens.retarget(a, 0, 1));
+  }
+}
@@ -0,0 +1,42 @@
+package adf.gdx;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class FrameClockTest {
+  @Test public void testClamp() {
+    FrameClock clock = new FrameClock();
+    clock.tick(.016f);
+    assertEquals(.016f, clock.delta(), 1e-6f);
+    clock.tick(.2f);
+    assertEquals(clock.maxDelta, clock.delta(), 1e-6f);
+    assertEquals(.2f, clock.rawDelta(), 1e-6f);
+    assertEquals(2, clock.frame());
+    assertEquals(.016f + clock.maxDelta, clock.time(), 1e-6f);
+  }
+
+  @Test public void testPause() {
+    FrameClock clock = new FrameClock();
+    clock.tick(.02f);
+    clock.pause();
+    clock.tick(.02f);
+    assertEquals(0, clock.delta(), 0);
+    clock.resume();
+    // the gap is replaced with the previous delta
+    clock.tick(5);
+    assertEquals(.02f, clock.delta(), 1e-6f);
+    assertEquals(.04f, clock.time(), 1e-6f);
+    assertEquals(3, clock.frame());
+  }
+
+  @Test public void testSmoothing() {
+    FrameClock clock = new FrameClock().setSmoothing(.5f);
+    clock.tick(.02f);
+    clock.tick(.04f);
+    assertEquals(.03f, clock.delta(), 1e-6f);
+    clock.discardNext();
+    clock.tick(1);
+    assertEquals(.03f, clock.delta(), 1e-6f);
+  }
+}
@@ -0,0 +1,34 @@
+package adf.gdx;
+
+import static adf.gdx.FrameProfiler.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class FrameProfilerTest {
+  @Test public void testPercentiles() {
+    FrameProfiler profiler = new FrameProfiler(100);
+    assertEquals(0, profiler.percentile(PH_FRAME, .5f));
+    for (int i=100; i > 0; i--) {
+      profiler.record(PH_FRAME, i);
+    }
+    assertEquals(100, profiler.size(PH_FRAME));
+    assertEquals(50, profiler.percentile(PH_FRAME, .5f));
+    assertEquals(95, profiler.percentile(PH_FRAME, .95f));
+    assertEquals(99, profiler.percentile(PH_FRAME, .99f));
+    assertEquals(1, profiler.last(PH_FRAME));
+  }
+
+  @Test public void testRingOverwrite() {
+    FrameProfiler profiler = new FrameProfiler(10);
+    for (int i=1; i <= 15; i++) {
+      profiler.record(PH_DRAW, i);
+    }
+    assertEquals(10, profiler.size(PH_DRAW));
+    assertEquals(6, profiler.percentile(PH_DRAW, 0));
+    assertEquals(15, profiler.percentile(PH_DRAW, 1));
+    assertEquals(0, profiler.size(PH_UI));
+    profiler.reset();
+    assertEquals(0, profiler.size(PH_DRAW));
+  }
+}
@@ -0,0 +1,151 @@
+package adf.gdx;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class FreeListPoolTest {
+  private static class Item {
+    boolean isSetUp;
+  }
+
+  @SuppressWarnings("serial")
+  private static class ItemPool extends FreeListPool<Item> {
+    int created, resets;
+
+    ItemPool(int cap) {
+      super(cap);
+    }
+
+    ItemPool() {
+      super();
+    }
+
+    @Override protected Item newObj() {
+      created++;
+      return new Item();
+    }
+
+    @Override protected void setup(Item obj) {
+      obj.isSetUp = true;
+    }
+
+    @Override protected void reset(Item obj) {
+      resets++;
+    }
+  }
+
+  @Test public void testAcquire() {
+    ItemPool pool = new ItemPool();
+    pool.init(4);
+    assertEquals(4, pool.created);
+    assertEquals(4, pool.freeCount());
+    Item a = pool.acquire(), b = pool.acquire();
+    assertNotSame(a, b);
+    assertTrue(a.isSetUp);
+    assertFalse(pool.isFree(a));
+    assertEquals(2, pool.usedCount());
+    assertTrue(pool.release(a));
+    assertFalse(pool.release(a));
+    assertFalse(pool.release(new Item()));
+    assertTrue(pool.isFree(a));
+    // the last released is acquired first
+    assertSame(a, pool.acquire());
+  }
+
+  @Test public void testGrowth() {
+    ItemPool pool = new ItemPool();
+    pool.init(4);
+    for (int i=0; i < 5; i++) {
+      assertNotNull(pool.acquire());
+    }
+    assertEquals(8, pool.size());
+    assertEquals(5, pool.usedCount());
+    pool.setGrowth(1);
+    for (int i=0; i < 3; i++) {
+      assertNotNull(pool.nextFreeExtra());
+    }
+    assertNull(pool.acquire());
+    assertNull(pool.nextFree());
+    assertEquals(8, pool.created);
+  }
+
+  @Test public void testShrink() {
+    ItemPool pool = new ItemPool();
+    pool.init(6);
+    Item a = pool.acquire(), b = pool.acquire();
+    // only the free ones at the end are removed
+    pool.resize(0);
+    assertEquals(2, pool.size());
+    assertEquals(4, pool.resets);
+    pool.release(b);
+    pool.resize(1);
+    assertEquals(1, pool.size());
+    assertSame(a, pool.first());
+    assertEquals(0, pool.freeCount());
+    pool.release(a);
+    assertSame(a, pool.acquire());
+  }
+
+  @Test public void testResize() {
+    // the plain pool adds and sets up every new item, and removes from the end
+    ItemPool pool = new ItemPool();
+    pool.refresh(10);
+    assertEquals(10, pool.size());
+    for (Item item : pool) {
+      assertTrue(item.isSetUp);
+    }
+    pool.resize(3);
+    assertEquals(3, pool.size());
+    assertEquals(7, pool.resets);
+  }
+
+  @Test public void testStats() {
+    ItemPool pool = new ItemPool();
+    pool.init(2);
+    Item a = pool.acquire();
+    pool.acquire();
+    assertEquals(2, pool.peak());
+    pool.release(a);
+    pool.acquire();
+    assertEquals(0, pool.misses());
+    pool.acquire();
+    assertEquals(1, pool.misses());
+    assertEquals(1, pool.grows());
+    assertEquals(3, pool.peak());
+    pool.setGrowth(1);
+    pool.acquire();
+    assertNull(pool.acquire());
+    assertEquals(1, pool.grows());
+    assertEquals(2, pool.misses());
+    // the unmet request counts to the peak demand
+    assertEquals(5, pool.peak());
+    pool.resetStats();
+    assertEquals(0, pool.peak());
+  }
+
+  @Test public void testIdleShrink() {
+    ItemPool pool = new ItemPool(2);
+    pool.init(2);
+    Pool.tick(1000);
+    pool.setName("items");
+    pool.shrinkDelay = 10;
+    Item a = pool.acquire();
+    for (int i=0; i < 3; i++) {
+      pool.acquire();
+    }
+    assertEquals(4, pool.size());
+    pool.release(a);
+    Pool.tick(1005);
+    assertEquals(4, pool.size());
+    Pool.tick(1015);
+    // the used ones at the end are kept
+    assertEquals(4, pool.size());
+    for (int i=pool.size()-1; i >= 0; i--) {
+      pool.release(pool.get(i));
+    }
+    Pool.tick(1016);
+    assertEquals(2, pool.size());
+    assertTrue(Pool.report().contains("items: 2 items"));
+  }
+}
@@ -0,0 +1,136 @@
+package adf.gdx;
+
+import static org.junit.Assert.*;
+
+import aurelienribon.tweenengine.Timeline;
+import aurelienribon.tweenengine.Tween;
+import aurelienribon.tweenengine.primitives.MutableFloat;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import org.junit.Test;
+
+public class IndexedTweenManagerTest {
+  @Test public void testKillTarget() {
+    IndexedTweenManager mgr = new IndexedTweenManager();
+    MutableFloat a = new MutableFloat(0), b = new MutableFloat(0);
+    Tween ta = Tween.to(a, 0, 1).target(1).start(mgr);
+    Tween tb = Tween.to(b, 0, 1).target(1).start(mgr);
+    assertTrue(mgr.containsTarget(a));
+    assertTrue(mgr.containsTarget(a, 0));
+    assertFalse(mgr.containsTarget(a, 1));
+    assertSame(ta, mgr.find(a, 0));
+    mgr.killTarget(a, 1);
+    assertFalse(ta.isFinished());
+    mgr.killTarget(a);
+    assertTrue(ta.isFinished());
+    assertFalse(tb.isFinished());
+    assertFalse(mgr.containsTarget(a));
+    mgr.update(.5f);
+    assertEquals(0, a.floatValue(), 0);
+    assertEquals(.5f, b.floatValue(), 1e-6f);
+    assertEquals(1, mgr.size());
+  }
+
+  @Test public void testTimeline() {
+    IndexedTweenManager mgr = new IndexedTweenManager();
+    MutableFloat a = new MutableFloat(0), b = new MutableFloat(0);
+    Timeline tl = Timeline.createSequence()
+        .push(Tween.to(a, 0, 1).target(1))
+        .push(Tween.to(b, 0, 1).target(1))
+        .start(mgr);
+    assertTrue(mgr.containsTarget(b));
+    // a timeline isn't returned as a tween
+    assertNull(mgr.find(b, 0));
+    // killing any target kills the whole timeline
+    mgr.killTarget(b);
+    assertTrue(tl.isFinished());
+    assertFalse(mgr.containsTarget(a));
+    mgr.update(0);
+    assertEquals(0, mgr.size());
+  }
+
+  @Test public void testFinished() {
+    IndexedTweenManager mgr = new IndexedTweenManager();
+    MutableFloat a = new MutableFloat(0), b = new MutableFloat(0);
+    Tween.to(a, 0, 1).target(1).start(mgr);
+    mgr.update(1.5f);
+    assertEquals(1, a.floatValue(), 0);
+    assertFalse(mgr.containsTarget(a));
+    // the finished tween is freed and may be obtained from the pool for another target
+    mgr.update(0);
+    Tween tb = Tween.to(b, 0, 1).target(1).start(mgr);
+    assertFalse(mgr.containsTarget(a));
+    assertSame(tb, mgr.find(b, 0));
+    mgr.killTarget(a);
+    assertFalse(tb.isFinished());
+    mgr.killTarget(b);
+    assertTrue(tb.isFinished());
+  }
+
+  @Test public void testRetarget() {
+    IndexedTweenManager mgr = new IndexedTweenManager();
+    MutableFloat a = new MutableFloat(0);
+    int[] completes = new int[1];
+    Tween tween = Tween.to(a, 0, 1).target(1).setCallback((type, source) -> completes[0]++).start(mgr);
+    mgr.update(.5f);
+    assertEquals(.5f, a.floatValue(), 1e-6f);
+    // continues from the current value with the new duration
+    assertSame(tween, mgr.retarget(a, 0, 3, 2));
+    mgr.update(1.5f);
+    assertEquals(1.25f, a.floatValue(), 1e-6f);
+    mgr.update(2);
+    assertEquals(2, a.floatValue(), 1e-6f);
+    assertEquals(1, completes[0]);
+    assertNull(mgr.retarget(a, 0, 1, 0));
+  }
+
+  @Test public void testRetargetDelayed() {
+    IndexedTweenManager mgr = new IndexedTweenManager();
+    MutableFloat a = new MutableFloat(0), b = new MutableFloat(0);
+    Tween.to(a, 0, 1).target(1).delay(1).start(mgr);
+    Tween.to(b, 0, 1).targetRelative(1).start(mgr);
+    mgr.update(.5f);
+    // still in the delay, the start values aren't captured yet
+    assertNull(mgr.retarget(a, 0, 1, 2));
+    assertEquals(0, a.floatValue(), 1e-6f);
+    assertNull(mgr.retarget(b, 0, 1, 2));
+    mgr.update(1);
+    assertEquals(.5f, a.floatValue(), 1e-6f);
+    assertEquals(1, b.floatValue(), 1e-6f);
+  }
+
+  @Test public void testStats() {
+    IndexedTweenManager mgr = new IndexedTweenManager("test");
+    MutableFloat a = new MutableFloat(0), b = new MutableFloat(0);
+    Tween.to(a, 0, 1).target(1).start(mgr);
+    Tween.to(a, 1, 1).target(1).start(mgr);
+    Timeline.createSequence()
+        .push(Tween.to(b, 0, 1).target(1))
+        .push(Tween.to(b, 0, 1).target(0))
+        .push(Tween.to(b, 0, 1).target(1))
+        .repeat(Tween.INFINITY, 0)
+        .start(mgr);
+    assertEquals(3, mgr.size());
+    assertEquals(6, mgr.objects());
+    assertEquals(6, mgr.obtained());
+    assertEquals(mgr.obtained(), mgr.poolHits() + mgr.poolMisses());
+    assertEquals(1, mgr.infiniteCount());
+    Array<Object> targets = new Array<>();
+    IntArray counts = new IntArray();
+    mgr.topTargets(1, targets, counts);
+    assertSame(b, targets.first());
+    assertEquals(3, counts.first());
+    mgr.update(1.5f);
+    mgr.update(0);
+    assertEquals(1, mgr.size());
+    assertEquals(4, mgr.objects());
+    assertEquals(3, mgr.peak());
+    assertTrue(mgr.report().contains("repeating forever"));
+    // the freed tweens are taken from the pool again
+    long misses = mgr.poolMisses();
+    Tween.to(a, 0, 1).target(1).start(mgr);
+    assertEquals(misses, mgr.poolMisses());
+  }
+}
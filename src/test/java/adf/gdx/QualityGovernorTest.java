@@ -0,0 +1,59 @@
+package adf.gdx;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class QualityGovernorTest {
+  private static final long   fast  = 4000000,  // 4 ms of work
+                              slow  = 30000000;
+
+  private static boolean window(QualityGovernor governor, float interval, long work) {
+    boolean changed = false;
+    for (int i=0; i < 10; i++) {
+      changed |= governor.update(interval, work);
+    }
+    return changed;
+  }
+
+  @Test public void testStepDown() {
+    QualityGovernor governor = new QualityGovernor(10, QualityGovernor.defaultTiers, 0);
+    assertFalse(window(governor, .03f, slow));
+    assertTrue(window(governor, .03f, slow));
+    assertEquals(1, governor.tierIndex());
+    // cooldown
+    for (int i=0; i < governor.cooldownWindows; i++) {
+      assertFalse(window(governor, .03f, slow));
+    }
+  }
+
+  @Test public void testHysteresis() {
+    QualityGovernor governor = new QualityGovernor(10, QualityGovernor.defaultTiers, 2);
+    governor.cooldownWindows = 0;
+    for (int i=0; i < governor.upWindows - 1; i++) {
+      assertFalse(window(governor, 1 / 60f, fast));
+    }
+    assertTrue(window(governor, 1 / 60f, fast));
+    assertEquals(1, governor.tierIndex());
+    // the upgrade fails right away
+    window(governor, .03f, slow);
+    assertTrue(window(governor, .03f, slow));
+    assertEquals(2, governor.tierIndex());
+    // the next attempt requires twice as many windows
+    for (int i=0; i < governor.upWindows * 2 - 1; i++) {
+      assertFalse(window(governor, 1 / 60f, fast));
+    }
+    assertTrue(window(governor, 1 / 60f, fast));
+  }
+
+  @Test public void testManual() {
+    QualityGovernor governor = new QualityGovernor(10, QualityGovernor.defaultTiers, 0);
+    governor.setAuto(false);
+    for (int i=0; i < 5; i++) {
+      assertFalse(window(governor, .03f, slow));
+    }
+    assertEquals(0, governor.tierIndex());
+    assertEquals(3, governor.firstBasicTier());
+    assertEquals(4, governor.findTier("minimal"));
+  }
+}
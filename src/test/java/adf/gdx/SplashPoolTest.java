@@ -0,0 +1,39 @@
+package adf.gdx;
+
+import static adf.gdx.BaseContext.updater;
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+import org.junit.Test;
+
+public class SplashPoolTest {
+  @Test public void testPlaying() {
+    // two frames of .1 s
+    SplashPool pool = new SplashPool(3, .1f, new Array<>(new TextureRegion[] {new TextureRegion(), new TextureRegion()}));
+    int registered = updater.size();
+    assertFalse(pool.isActive());
+    for (int i=0; i < 4; i++) {
+      pool.fire(i, i);
+    }
+    // the burst beyond the capacity is dropped
+    assertEquals(3, pool.size());
+    assertEquals(3, pool.playingCount());
+    assertEquals(0, pool.freeCount());
+    assertEquals(registered + 1, updater.size());
+    pool.update(.15f);
+    pool.fire(0, 0);
+    assertEquals(3, pool.playingCount());
+    pool.update(.1f);
+    assertEquals(0, pool.playingCount());
+    assertEquals(3, pool.freeCount());
+    assertFalse(pool.isActive());
+    // unregistered once idle
+    assertEquals(registered, updater.size());
+    pool.fire(0, 0);
+    assertEquals(1, pool.playingCount());
+    pool.update(1);
+    assertEquals(registered, updater.size());
+  }
+}
@@ -0,0 +1,118 @@
+package adf.gdx;
+
+import static aurelienribon.tweenengine.TweenCallback.*;
+import static org.junit.Assert.*;
+
+import aurelienribon.tweenengine.Tween;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import org.junit.Test;
+
+public class TimerWheelTest {
+  @Test public void testSchedule() {
+    TimerWheel timers = new TimerWheel(.25f, 1);
+    int[] calls = new int[2];
+    int h = timers.schedule(1, () -> calls[0]++);
+    timers.schedule(.1f, () -> calls[1]++);
+    assertEquals(2, timers.size());
+    // fired in the first update reaching the tick of the time, never early
+    timers.update(.1f);
+    assertEquals(0, calls[1]);
+    timers.update(.2f);
+    assertEquals(1, calls[1]);
+    timers.update(.6f);
+    assertEquals(0, calls[0]);
+    assertTrue(timers.isRunning(h));
+    assertEquals(.1f, timers.timeLeft(h), 1e-5f);
+    timers.update(.1f);
+    assertEquals(1, calls[0]);
+    assertFalse(timers.isRunning(h));
+    assertEquals(0, timers.size());
+  }
+
+  @Test public void testLevels() {
+    TimerWheel timers = new TimerWheel(.25f, 4);
+    IntArray fired = new IntArray();
+    // the first level covers 16 s, the second 1024 s, the third 65536 s
+    float[] delays = {5, 100, 2000, 70000};
+    for (int i=0; i < delays.length; i++) {
+      int n = i;
+      timers.schedule(delays[i], () -> fired.add(n));
+    }
+    float t = 0;
+    for (int i=0; i < delays.length; i++) {
+      timers.update(delays[i] - .5f - t);
+      assertEquals(i, fired.size);
+      timers.update(.5f);
+      assertEquals(i + 1, fired.size);
+      assertEquals(i, fired.peek());
+      t = delays[i];
+    }
+  }
+
+  @Test public void testRepeat() {
+    TimerWheel timers = new TimerWheel(.25f, 4);
+    IntArray events = new IntArray();
+    int h = timers.schedule(1, 1, 2, (type, source) -> events.add(type), BEGIN|END|COMPLETE);
+    timers.update(0);
+    assertEquals(BEGIN, events.peek());
+    // a long frame runs all the expiries it passed
+    timers.update(2);
+    assertEquals(3, events.size);
+    assertEquals(END, events.peek());
+    timers.update(1);
+    assertEquals(new IntArray(new int[] {BEGIN, END, END, END, COMPLETE}), events);
+    assertFalse(timers.isRunning(h));
+    int[] calls = new int[1];
+    h = timers.schedule(.5f, .5f, Tween.INFINITY, () -> calls[0]++);
+    timers.update(100);
+    assertEquals(200, calls[0]);
+    assertTrue(timers.cancel(h));
+    assertFalse(timers.cancel(h));
+    assertEquals(0, timers.size());
+  }
+
+  @Test public void testCancel() {
+    TimerWheel timers = new TimerWheel(.25f, 4);
+    int[] calls = new int[1];
+    int[] handles = new int[2];
+    // both expire in the same tick, the first one fired cancels the other
+    handles[0] = timers.schedule(1, () -> {
+      calls[0]++;
+      timers.cancel(handles[1]);
+      timers.cancel(handles[0]);
+    });
+    handles[1] = timers.schedule(1, () -> {
+      calls[0]++;
+      timers.cancel(handles[0]);
+    });
+    timers.update(2);
+    assertEquals(1, calls[0]);
+    assertEquals(0, timers.size());
+    // freed slots are reused with other handles
+    int h = timers.schedule(1, () -> calls[0]++);
+    assertNotEquals(handles[0], h);
+    assertNotEquals(handles[1], h);
+    assertFalse(timers.isRunning(handles[0]));
+    timers.pause();
+    timers.update(2);
+    assertEquals(1, calls[0]);
+    timers.resume();
+    timers.update(1);
+    assertEquals(2, calls[0]);
+  }
+
+  @Test public void testReschedule() {
+    TimerWheel timers = new TimerWheel(.25f, 4);
+    int[] calls = new int[1];
+    // scheduled within a callback into the bucket being fired, so it waits for the next lap of the first level
+    timers.schedule(1, () -> timers.schedule(16, () -> calls[0]++));
+    timers.update(1);
+    assertEquals(1, timers.size());
+    timers.update(15.75f);
+    assertEquals(0, calls[0]);
+    timers.update(.25f);
+    assertEquals(1, calls[0]);
+  }
+}
@@ -0,0 +1,55 @@
+package adf.gdx;
+
+import static org.junit.Assert.*;
+
+import aurelienribon.tweenengine.TweenEquations;
+import aurelienribon.tweenengine.TweenManager;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+
+import org.junit.Test;
+
+public class TweenGroupTest {
+  @Test public void testFade() {
+    TweenManager mgr = new TweenManager();
+    Actor a = new Actor(), b = new Actor(), c = new Actor();
+    b.getColor().a = .5f;
+    TweenGroup group = new TweenGroup(a, b);
+    group.add(c);
+    assertEquals(3, group.size());
+    group.$fade(0, 1).ease(TweenEquations.easeNone).start(mgr);
+    assertEquals(1, mgr.size());
+    mgr.update(.25f);
+    // the items fade from their own values
+    assertEquals(.75f, a.getColor().a, 1e-5f);
+    assertEquals(.375f, b.getColor().a, 1e-5f);
+    assertEquals(.75f, c.getColor().a, 1e-5f);
+    group.remove(c);
+    mgr.update(1);
+    assertEquals(0, b.getColor().a, 0);
+    assertEquals(.75f, c.getColor().a, 1e-5f);
+  }
+
+  @Test public void testLayers() {
+    TweenManager mgr = new TweenManager();
+    Actor game = new Actor(), menu = new Actor(), added = new Actor();
+    menu.getColor().a = 0;
+    added.getColor().a = .25f;
+    TweenGroup group = new TweenGroup(game, menu);
+    group.$fade(.5f, 1).ease(TweenEquations.easeNone).start(mgr);
+    mgr.update(.25f);
+    // no layer jumps to the alpha of the other
+    assertEquals(.875f, game.getColor().a, 1e-5f);
+    assertEquals(.125f, menu.getColor().a, 1e-5f);
+    // an item added midway continues from its current value
+    group.add(added);
+    mgr.update(.25f);
+    assertEquals(.75f, game.getColor().a, 1e-5f);
+    assertEquals(.25f, menu.getColor().a, 1e-5f);
+    assertTrue(added.getColor().a > .25f && added.getColor().a < .5f);
+    mgr.update(1);
+    assertEquals(.5f, game.getColor().a, 1e-5f);
+    assertEquals(.5f, menu.getColor().a, 1e-5f);
+    assertEquals(.5f, added.getColor().a, 1e-5f);
+  }
+}
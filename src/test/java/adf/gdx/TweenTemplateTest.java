@@ -0,0 +1,78 @@
+package adf.gdx;
+
+import static org.junit.Assert.*;
+
+import aurelienribon.tweenengine.TweenEquations;
+import aurelienribon.tweenengine.primitives.MutableFloat;
+
+import org.junit.Test;
+
+public class TweenTemplateTest {
+  // Targets: a, b. Values: duration, a value. Callbacks: the middle call.
+  private static TweenTemplate template() {
+    TweenTemplate t = new TweenTemplate(2, 2, 1);
+    int zero = t.constant(0);
+    t.beginParallel()
+       .tween(0, 0, 0, TweenEquations.easeNone, 1)
+       .tween(1, 0, 0, TweenEquations.easeNone, t.constant(10))
+     .end()
+     .call(0)
+     .tween(0, 0, 0, TweenEquations.easeNone, zero);
+    return t;
+  }
+
+  @Test public void testPlayback() {
+    IndexedTweenManager mgr = new IndexedTweenManager();
+    MutableFloat a = new MutableFloat(0), b = new MutableFloat(0);
+    int[] calls = new int[1];
+    TweenTemplate.Instance tl = template().obtain().target(0, a).target(1, b).value(0, 1).value(1, 4)
+        .callback(0, (type, source) -> calls[0]++).start(mgr);
+    assertEquals(2, tl.getDuration(), 0);
+    mgr.update(.5f);
+    assertEquals(2, a.floatValue(), 1e-5f);
+    assertEquals(5, b.floatValue(), 1e-5f);
+    assertEquals(0, calls[0]);
+    // the end of the first group, the call and the beginning of the last tween within one update
+    mgr.update(.75f);
+    assertEquals(1, calls[0]);
+    assertEquals(10, b.floatValue(), 1e-5f);
+    assertEquals(3, a.floatValue(), 1e-5f);
+    mgr.update(1);
+    assertEquals(0, a.floatValue(), 1e-5f);
+    assertTrue(tl.isFinished());
+    mgr.update(0);
+    assertEquals(0, mgr.size());
+  }
+
+  @Test public void testSkippedTarget() {
+    IndexedTweenManager mgr = new IndexedTweenManager();
+    MutableFloat b = new MutableFloat(0);
+    template().obtain().target(1, b).value(0, 1).start(mgr);
+    mgr.update(1.5f);
+    assertEquals(10, b.floatValue(), 1e-5f);
+  }
+
+  @Test public void testPool() {
+    IndexedTweenManager mgr = new IndexedTweenManager();
+    TweenTemplate t = template();
+    MutableFloat a = new MutableFloat(0), b = new MutableFloat(0);
+    TweenTemplate.Instance tl = t.obtain().target(0, a).target(1, b).value(0, 1).value(1, 4).start(mgr);
+    assertTrue(mgr.containsTarget(b));
+    mgr.killTarget(b, 0);
+    assertTrue(tl.isFinished());
+    assertFalse(mgr.containsTarget(a));
+    mgr.update(0);
+    // freed by the manager, the instance is reused without its previous targets
+    TweenTemplate.Instance reused = t.obtain();
+    assertSame(tl, reused);
+    assertFalse(reused.containsTarget(a));
+    assertFalse(reused.isFinished());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFrozen() {
+    TweenTemplate t = template();
+    t.obtain();
+    t.call(0);
+  }
+}
@@ -0,0 +1,271 @@
+package adf.gdx;
+
+import static adf.gdx.Updater.*;
+import static org.junit.Assert.*;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class UpdaterTest {
+  private static class Counter implements Updatable {
+    final boolean isParallel;
+    int           count;
+    Thread        thread;
+
+    Counter(boolean isParallel) {
+      this.isParallel = isParallel;
+    }
+
+    @Override public void update() {
+      count++;
+      thread = Thread.currentThread();
+    }
+
+    @Override public boolean isParallel() {
+      return isParallel;
+    }
+  }
+
+  @Test public void testParallel() {
+    Updater updater = new Updater();
+    ForkJoinPool pool = new ForkJoinPool(4);
+    updater.setPool(pool);
+    updater.minChunk = 8;
+    Counter[] serial = new Counter[10];
+    Counter[] parallel = new Counter[100];
+    for (int i=0; i < serial.length; i++) {
+      updater.add(serial[i] = new Counter(false));
+    }
+    for (int i=0; i < parallel.length; i++) {
+      updater.add(parallel[i] = new Counter(true));
+    }
+    for (int frame=0; frame < 3; frame++) {
+      updater.update();
+    }
+    boolean offThread = false;
+    for (Counter c : serial) {
+      assertEquals(3, c.count);
+      assertSame(Thread.currentThread(), c.thread);
+    }
+    for (Counter c : parallel) {
+      assertEquals(3, c.count);
+      offThread |= c.thread != Thread.currentThread();
+    }
+    assertTrue(offThread);
+    pool.shutdown();
+  }
+
+  @Test public void testDeferredRemoval() {
+    Updater updater = new Updater();
+    updater.minChunk = 1;
+    Counter removed = new Counter(true);
+    updater.add(removed);
+    updater.add(new Counter(true));
+    // removed from the rendering thread while the chunks are running
+    updater.add(() -> updater.remove(removed));
+    updater.update();
+    updater.update();
+    assertEquals(1, removed.count);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFailure() {
+    Updater updater = new Updater();
+    updater.minChunk = 1;
+    AtomicInteger done = new AtomicInteger();
+    for (int i=0; i < 4; i++) {
+      updater.add(new Updatable() {
+        @Override public void update() {
+          if (done.incrementAndGet() == 4) {
+            throw new IllegalStateException();
+          }
+        }
+
+        @Override public boolean isParallel() {
+          return true;
+        }
+      });
+    }
+    updater.update();
+  }
+
+  @Test public void testPhases() {
+    Updater updater = new Updater();
+    IntArray calls = new IntArray();
+    updater.add(() -> calls.add(3), PRESENTATION, 0);
+    updater.add(() -> calls.add(2), SIMULATION, 5);
+    updater.add(() -> calls.add(1), SIMULATION, -1);
+    updater.add(() -> calls.add(0), INPUT, 10);
+    updater.update();
+    assertEquals(new IntArray(new int[] {0, 1, 2, 3}), calls);
+  }
+
+  @Test public void testPhaseRange() {
+    Updater updater = new Updater();
+    Counter input = new Counter(false), divided = new Counter(false), simulation = new Counter(false);
+    Counter parallel = new Counter(true), presentation = new Counter(false);
+    updater.add(input, INPUT, 0);
+    updater.addDivided(divided, INPUT, 0, 3);
+    updater.add(simulation);
+    updater.add(parallel);
+    updater.add(presentation, PRESENTATION, 0);
+    // two ticks per frame, the frames of the divided one are counted in its own phase
+    for (int frame=0; frame < 3; frame++) {
+      updater.update(1 / 60f, INPUT, INPUT);
+      updater.update(1 / 120f, SIMULATION, SIMULATION);
+      updater.update(1 / 120f, SIMULATION, SIMULATION);
+      updater.update(1 / 60f, PRESENTATION, PRESENTATION);
+    }
+    assertEquals(3, input.count);
+    assertEquals(1, divided.count);
+    assertEquals(6, simulation.count);
+    assertEquals(6, parallel.count);
+    assertEquals(3, presentation.count);
+  }
+
+  @Test public void testHandles() {
+    Updater updater = new Updater();
+    Counter[] counters = new Counter[4];
+    int[] handles = new int[counters.length];
+    for (int i=0; i < counters.length; i++) {
+      handles[i] = updater.add(counters[i] = new Counter(false));
+    }
+    // the last one is swapped in place of the removed one
+    assertTrue(updater.remove(handles[1]));
+    assertFalse(updater.remove(handles[1]));
+    assertFalse(updater.contains(handles[1]));
+    updater.update();
+    assertEquals(1, counters[0].count);
+    assertEquals(0, counters[1].count);
+    assertEquals(1, counters[3].count);
+    // the freed slot is reused with another handle
+    int h = updater.add(counters[1]);
+    assertNotEquals(handles[1], h);
+    updater.remove(counters[1]);
+    assertFalse(updater.contains(h));
+    assertEquals(3, updater.size());
+  }
+
+  @Test public void testDeferredMutation() {
+    Updater updater = new Updater();
+    Counter removed = new Counter(false), added = new Counter(false);
+    int[] handles = new int[1];
+    // the first one updated removes the other, which is skipped, and adds another, which waits for the next update
+    Updatable mutator = () -> {
+      if (handles[0] != NONE) {
+        updater.remove(handles[0]);
+        handles[0] = NONE;
+        updater.add(added);
+      }
+    };
+    updater.add(mutator, INPUT, 0);
+    handles[0] = updater.add(removed);
+    updater.update();
+    assertEquals(0, removed.count);
+    assertEquals(0, added.count);
+    updater.update();
+    assertEquals(1, added.count);
+    assertEquals(2, updater.size());
+    // added and removed during the same update
+    updater.add(() -> updater.remove(updater.add(removed)));
+    updater.update();
+    updater.update();
+    assertEquals(0, removed.count);
+  }
+
+  @Test public void testDivided() {
+    Updater updater = new Updater();
+    Counter[] counters = new Counter[6];
+    FloatArray deltas = new FloatArray();
+    for (int i=0; i < counters.length; i++) {
+      updater.addDivided(counters[i] = new Counter(false), SIMULATION, 0, 3);
+    }
+    updater.addDivided(new Updatable() {
+      @Override public void update() {}
+
+      @Override public void update(float delta) {
+        deltas.add(delta);
+      }
+    }, SIMULATION, 0, 3);
+    // spread over the frames, two per frame
+    IntArray perFrame = new IntArray();
+    for (int frame=0; frame < 6; frame++) {
+      int before = 0;
+      for (Counter c : counters) {
+        before += c.count;
+      }
+      updater.update(.1f);
+      int after = 0;
+      for (Counter c : counters) {
+        after += c.count;
+      }
+      perFrame.add(after - before);
+    }
+    for (Counter c : counters) {
+      assertEquals(2, c.count);
+    }
+    for (int i=0; i < perFrame.size; i++) {
+      assertTrue(perFrame.get(i) <= 3);
+    }
+    // the time passed since the previous call
+    assertEquals(2, deltas.size);
+    assertEquals(.3f, deltas.get(1), 1e-5f);
+  }
+
+  @Test public void testRate() {
+    Updater updater = new Updater();
+    Counter[] counters = new Counter[STAGGER * 4];
+    for (int i=0; i < counters.length; i++) {
+      updater.addAtRate(counters[i] = new Counter(false), SIMULATION, 0, 10);
+    }
+    Counter everyFrame = new Counter(false);
+    updater.add(everyFrame);
+    int max = 0;
+    for (int frame=0; frame < 60; frame++) {
+      int before = 0;
+      for (Counter c : counters) {
+        before += c.count;
+      }
+      updater.update(1 / 60f);
+      int after = 0;
+      for (Counter c : counters) {
+        after += c.count;
+      }
+      max = Math.max(max, after - before);
+    }
+    assertEquals(60, everyFrame.count);
+    for (Counter c : counters) {
+      assertEquals(10, c.count, 1);
+    }
+    // 640 calls per second over 60 frames
+    assertTrue(max <= 16);
+  }
+
+  @Test public void testOwners() throws InterruptedException {
+    Updater updater = new Updater();
+    Object owner = new Object();
+    Counter owned = new Counter(false), kept = new Counter(false);
+    int h = updater.bind(updater.add(owned), owner);
+    updater.add(kept);
+    updater.removeOwner(owner);
+    assertFalse(updater.contains(h));
+    assertEquals(1, updater.size());
+    assertEquals(0, updater.leaked());
+    // the registration of a collected owner is removed on the next update
+    h = updater.bind(updater.add(owned), new Object());
+    for (int i=0; i < 50 && updater.contains(h); i++) {
+      System.gc();
+      Thread.sleep(10);
+      updater.update();
+    }
+    assertFalse(updater.contains(h));
+    assertEquals(1, updater.leaked());
+    assertEquals(1, updater.size());
+    assertTrue(updater.report().contains("1 leaked"));
+  }
+}
@@ -0,0 +1,65 @@
+package adf.gdx.bench;
+
+import static adf.gdx.BaseAppListener.*;
+
+import adf.gdx.BaseAppListener;
+import adf.gdx.BaseContext;
+import adf.gdx.TweenUtil.ActorAccessor;
+import adf.gdx.Updatable;
+
+import aurelienribon.tweenengine.Tween;
+import aurelienribon.tweenengine.primitives.MutableFloat;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.ui.Image;
+
+/**
+ * Context populated with a configurable number of actors on the UI layers, running tweens and updatables.
+ */
+public class BenchContext extends BaseContext<BaseAppListener> {
+  private final Actor[]     actors;
+  private final Updatable[] updatables;
+  private float             sum;      // keeps the updatables from being optimized away
+
+  public BenchContext(BaseAppListener al, int actorCount, int tweenCount, int updatableCount) {
+    super(al);
+    blur.loadDefault();
+
+    actors = new Actor[actorCount];
+    for (int i=0; i < actorCount; i++) {
+      Image image = new Image(drawable("white"));
+      image.setBounds(i * 7 % screenWidthI(), i * 13 % screenHeightI(), 16, 16);
+      addToUiLayer(i % 2 == 0 ? UI_GAME : UI_MENUS, image);
+      actors[i] = image;
+    }
+
+    for (int i=0; i < tweenCount; i++) {
+      float d = 1 + i % 5 * .25f;
+      if (actorCount > 0) {
+        Actor a = actors[i % actorCount];
+        Tween.to(a, ActorAccessor.POS, d).target(a.getX() + 32, a.getY() + 32).repeatYoyo(-1, 0).start(tscTweenMgr);
+      } else {
+        Tween.to(new MutableFloat(0), 0, d).target(1).repeatYoyo(-1, 0).start(tscTweenMgr);
+      }
+    }
+
+    updatables = new Updatable[updatableCount];
+    for (int i=0; i < updatableCount; i++) {
+      final float k = i;
+      updatables[i] = () -> sum += k * dt();
+      addUpdatable(updatables[i]);
+    }
+  }
+
+  public float sum() {
+    return sum;
+  }
+
+  @Override public void dispose() {
+    for (Updatable u : updatables) {
+      removeUpdatable(u);
+    }
+    tscTweenMgr.killAll();
+    super.dispose();
+  }
+}
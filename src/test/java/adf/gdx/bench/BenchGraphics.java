@@ -0,0 +1,46 @@
+package adf.gdx.bench;
+
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+
+/**
+ * Mock graphics with a fixed screen size and a constant time delta, so every benchmarked frame does the same work.
+ */
+public class BenchGraphics extends MockGraphics {
+  private final int   width, height;
+  private final float delta;
+  private boolean     isContinuous  = true;
+
+  public BenchGraphics(int width, int height, float delta) {
+    this.width = width;
+    this.height = height;
+    this.delta = delta;
+  }
+
+  @Override public int getWidth() {
+    return width;
+  }
+
+  @Override public int getHeight() {
+    return height;
+  }
+
+  @Override public int getBackBufferWidth() {
+    return width;
+  }
+
+  @Override public int getBackBufferHeight() {
+    return height;
+  }
+
+  @Override public float getDeltaTime() {
+    return delta;
+  }
+
+  @Override public void setContinuousRendering(boolean isContinuous) {
+    this.isContinuous = isContinuous;
+  }
+
+  @Override public boolean isContinuousRendering() {
+    return isContinuous;
+  }
+}
@@ -0,0 +1,48 @@
+package adf.gdx.bench;
+
+import static org.junit.Assert.*;
+
+import adf.gdx.ContextLoader;
+
+import org.junit.Test;
+
+public class ContextLoaderTest {
+  private static class LoaderApp extends HeadlessApp {
+    final StringBuffer  order     = new StringBuffer();
+    BenchContext        first, second;
+    float               lastProgress;
+    int                 framesToSwitch;
+
+    @Override protected void run() {
+      first = new BenchContext(this, 0, 0, 0);
+      setContext(first);
+      ContextLoader loader = prepareContext(() -> second = new BenchContext(this, 0, 0, 0) {
+        @Override protected void prepare(ContextLoader loader) {
+          loader.async(() -> order.append('a'));
+          loader.step(() -> order.append('b'));
+          loader.async(() -> order.append('c'));
+          loader.step(() -> order.append('d'));
+        }
+      });
+      while (getContext() == first && framesToSwitch < 1000) {
+        render();
+        assertTrue(loader.progress() >= lastProgress);
+        lastProgress = loader.progress();
+        framesToSwitch++;
+      }
+    }
+  }
+
+  @Test public void testSwitch() throws Exception {
+    LoaderApp app = new LoaderApp();
+    app.start();
+    assertSame(app.second, app.getContext());
+    // steps wait for the jobs queued before them, jobs don't wait for steps
+    String order = app.order.toString();
+    assertEquals(4, order.length());
+    assertTrue(order.indexOf('a') < order.indexOf('b'));
+    assertTrue(order.indexOf('c') < order.indexOf('d'));
+    assertEquals(1, app.lastProgress, 0);
+    assertNull(app.contextLoader());
+  }
+}
@@ -0,0 +1,52 @@
+package adf.gdx.bench;
+
+import adf.gdx.thirdparty.BezierEasing;
+
+/**
+ * Compares the {@link BezierEasing} lookup table with the solver on the {@code Soft.INOUT} curve.
+ * <p>Usage: {@code EasingBenchmark [LUT resolution] [evaluations]}, or {@code gradle easingBenchmark -PbenchArgs="..."}.
+ */
+public class EasingBenchmark {
+  private static final float[]  xs    = new float[4096];  // evaluated points, spread so the branches aren't predicted
+  private static float          sink;                     // keeps the evaluations from being optimized away
+
+  static {
+    for (int i=0; i < xs.length; i++) {
+      xs[i] = (i * 0.618034f) % 1;
+    }
+  }
+
+  /**
+   * @return nanoseconds per evaluation.
+   */
+  private static double measure(BezierEasing easing, int evaluations) {
+    float sum = 0;
+    long start = System.nanoTime();
+    for (int i=0; i < evaluations; i++) {
+      sum += easing.ease(xs[i & (xs.length - 1)]);
+    }
+    long nanos = System.nanoTime() - start;
+    sink += sum;
+    return (double)nanos / evaluations;
+  }
+
+  private static int arg(String[] args, int i, int def) {
+    return args.length > i ? Integer.parseInt(args[i]) : def;
+  }
+
+  public static void main(String[] args) {
+    int resolution = arg(args, 0, BezierEasing.DEFAULT_LUT_RESOLUTION), evaluations = arg(args, 1, 20000000);
+    BezierEasing solver = new BezierEasing(.25f, .1f, .25f, 1);
+    BezierEasing lut = new BezierEasing(.25f, .1f, .25f, 1).useLut(resolution);
+    // warmup
+    measure(solver, evaluations / 4);
+    measure(lut, evaluations / 4);
+    double solverNanos = measure(solver, evaluations);
+    double lutNanos = measure(lut, evaluations);
+    System.out.println(String.format("solver = %.2f ns, lut = %.2f ns, speedup = %.1fx, lut resolution = %d, max error = %.2e",
+        solverNanos, lutNanos, solverNanos / lutNanos, resolution, lut.lutError()));
+    if (sink == Float.MIN_VALUE) {
+      System.out.println(sink);
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package adf.gdx.bench;
+
+import static adf.gdx.BaseContext.profiler;
+
+import adf.gdx.BaseAppListener;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Drives {@link adf.gdx.BaseContext} frames in a tight loop on the headless backend with {@link MockGL20}
+ * and reports the CPU time and the heap allocation per frame.
+ * <p>Usage: {@code FrameLoopBenchmark [actors] [tweens] [updatables] [warmup frames] [frames] [allocation check mode]},
+ * or {@code gradle benchmark -PbenchArgs="..."}.
+ */
+public class FrameLoopBenchmark extends HeadlessApp {
+  private final int             actors, tweens, updatables, warmupFrames, frames;
+  private int                   allocCheck        = ALLOC_CHECK_OFF;  // applied after the warmup
+  private long                  nanos;
+  private long                  bytes             = -1;  // -1 if allocation tracking is unsupported
+  private String                report;
+
+  public FrameLoopBenchmark(int actors, int tweens, int updatables, int warmupFrames, int frames) {
+    this.actors = actors;
+    this.tweens = tweens;
+    this.updatables = updatables;
+    this.warmupFrames = warmupFrames;
+    this.frames = frames;
+  }
+
+  @Override protected void run() {
+    setContext(new BenchContext(this, actors, tweens, updatables));
+
+    for (int i=0; i < warmupFrames; i++) {
+      render();
+    }
+    setAllocationCheck(allocCheck);
+    profiler.reset();
+    profiler.enable();
+    long bytesStart = allocatedBytes();
+    long start = System.nanoTime();
+    for (int i=0; i < frames; i++) {
+      render();
+    }
+    nanos = System.nanoTime() - start;
+    long bytesEnd = allocatedBytes();
+    profiler.disable();
+    setAllocationCheck(ALLOC_CHECK_OFF);
+    if (bytesStart >= 0) {
+      bytes = bytesEnd - bytesStart;
+    }
+    report = profiler.report();
+  }
+
+  /**
+   * @return bytes allocated by the current thread so far or -1 if unsupported.
+   */
+  private static long allocatedBytes() {
+    java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean)bean;
+      if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+        return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Sets the allocation check mode of the measured frames.
+   * @see BaseAppListener#setAllocationCheck(int)
+   */
+  public FrameLoopBenchmark checkAllocations(int mode) {
+    allocCheck = mode;
+    return this;
+  }
+
+  /**
+   * Runs the benchmark and waits for it to finish.
+   */
+  public FrameLoopBenchmark measure() throws InterruptedException {
+    start();
+    return this;
+  }
+
+  public int frames() {
+    return frames;
+  }
+
+  public double nanosPerFrame() {
+    return (double)nanos / frames;
+  }
+
+  /**
+   * @return bytes allocated per frame or -1 if unsupported.
+   */
+  public double bytesPerFrame() {
+    return bytes < 0 ? -1 : (double)bytes / frames;
+  }
+
+  /**
+   * @return per-phase frame profiler report.
+   */
+  public String report() {
+    return report;
+  }
+
+  @Override public String toString() {
+    return String.format("actors = %d, tweens = %d, updatables = %d, frames = %d, ns/frame = %.0f, bytes/frame = %.1f",
+        actors, tweens, updatables, frames, nanosPerFrame(), bytesPerFrame());
+  }
+
+  private static int arg(String[] args, int i, int def) {
+    return args.length > i ? Integer.parseInt(args[i]) : def;
+  }
+
+  public static void main(String[] args) throws Exception {
+    FrameLoopBenchmark bench = new FrameLoopBenchmark(arg(args, 0, 500), arg(args, 1, 500), arg(args, 2, 500),
+        arg(args, 3, 600), arg(args, 4, 3000)).checkAllocations(arg(args, 5, ALLOC_CHECK_OFF)).measure();
+    System.out.println(bench.report());
+    System.out.println(bench);
+  }
+}
@@ -0,0 +1,25 @@
+package adf.gdx.bench;
+
+import static adf.gdx.BaseAppListener.ALLOC_CHECK_LOG;
+import static org.junit.Assert.*;
+
+import adf.gdx.AllocationTracker;
+
+import org.junit.Test;
+
+public class FrameLoopBenchmarkTest {
+  @Test public void testRun() throws Exception {
+    FrameLoopBenchmark bench = new FrameLoopBenchmark(50, 50, 50, 10, 30).measure();
+    assertEquals(30, bench.frames());
+    assertTrue(bench.nanosPerFrame() > 0);
+    assertNotNull(bench.report());
+  }
+
+  @Test public void testFrameAllocation() throws Exception {
+    FrameLoopBenchmark bench = new FrameLoopBenchmark(50, 50, 50, 1000, 1000).checkAllocations(ALLOC_CHECK_LOG).measure();
+    if (AllocationTracker.isSupported()) {
+      // any per-frame allocation is at least an object header per frame, while the JIT may allocate now and then
+      assertTrue(bench.bytesPerFrame() < 16);
+    }
+  }
+}
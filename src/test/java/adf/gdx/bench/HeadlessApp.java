@@ -0,0 +1,61 @@
+package adf.gdx.bench;
+
+import static adf.gdx.BaseContext.governor;
+
+import adf.gdx.BaseAppListener;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * App on the headless backend with {@link MockGL20} and {@link BenchGraphics}, which loads the tools skin
+ * and runs {@link #run()} on the application thread instead of a render loop.
+ */
+public abstract class HeadlessApp extends BaseAppListener {
+  private final CountDownLatch  done  = new CountDownLatch(1);
+  private Throwable             error;
+
+  @Override public void create() {
+    try {
+      Gdx.graphics = new BenchGraphics(360, 640, 1 / 60f);
+      Gdx.gl = Gdx.gl20 = new MockGL20();
+      super.create();
+      loadSkin(internalFile("tools/uiskin.json"), internalFile("tools/textures.atlas"));
+      // the tier mustn't depend on the speed of the machine
+      governor.setAuto(false);
+      run();
+    } catch (Throwable e) {
+      error = e;
+    }
+  }
+
+  /**
+   * Drives the frames by calling {@link #render()}.
+   */
+  protected abstract void run() throws Exception;
+
+  @Override public void dispose() {
+    try {
+      super.dispose();
+    } finally {
+      done.countDown();
+    }
+  }
+
+  /**
+   * Runs the app and waits for it to finish.
+   * @throws RuntimeException if {@link #run()} has failed.
+   */
+  public void start() throws InterruptedException {
+    HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+    config.updatesPerSecond = -1;  // no render loop, the frames are driven from create()
+    new HeadlessApplication(this, config);
+    done.await();
+    if (error != null) {
+      throw new RuntimeException(getClass().getSimpleName() + " failed", error);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package adf.gdx.bench;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class HiddenContextsTest {
+  private static class CacheApp extends HeadlessApp {
+    BenchContext  a, b, c;
+    long          shownBytes;
+    boolean       aReleased, bReleased, aRestored;
+    int           hiddenCount;
+    Object        hiddenFirst;
+
+    @Override protected void run() {
+      a = new BenchContext(this, 0, 0, 0);
+      b = new BenchContext(this, 0, 0, 0);
+      c = new BenchContext(this, 0, 0, 0);
+      setContext(a);
+      shownBytes = a.residentBytes();
+      // fits a single hidden context
+      hiddenContextsBudget = shownBytes;
+      setContext(b, false);
+      setContext(c, false);
+      aReleased = a.isReleased();
+      bReleased = b.isReleased();
+      setContext(a, false);
+      aRestored = !a.isReleased() && a.residentBytes() == shownBytes;
+      maxHiddenContexts = 1;
+      trimHiddenContexts();
+      hiddenCount = hiddenContexts().size;
+      hiddenFirst = hiddenContexts().first();
+      render();
+    }
+  }
+
+  @Test public void testEviction() throws Exception {
+    CacheApp app = new CacheApp();
+    app.start();
+    assertTrue(app.shownBytes > 0);
+    assertTrue(app.aReleased);
+    assertFalse(app.bReleased);
+    assertTrue(app.aRestored);
+    // b was shown less recently than c
+    assertEquals(1, app.hiddenCount);
+    assertSame(app.c, app.hiddenFirst);
+  }
+}
@@ -0,0 +1,108 @@
+package adf.gdx.bench;
+
+import static adf.gdx.BaseContext.*;
+import static org.junit.Assert.*;
+
+import adf.gdx.Updater;
+import adf.gdx.utils.HoldInputListener;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.InputEvent;
+
+import org.junit.Test;
+
+public class HoldInputListenerTest {
+  private static class PausedApp extends HeadlessApp {
+    boolean fired;
+
+    @Override protected void run() throws Exception {
+      BenchContext ctx = new BenchContext(this, 0, 0, 0);
+      setContext(ctx);
+      ctx.setTimescale(0);
+      Actor actor = new Actor();
+      ctx.addToUiLayer(UI_MENUS, actor);
+      HoldInputListener listener = new HoldInputListener(50, () -> fired = true);
+      InputEvent event = new InputEvent();
+      event.setListenerActor(actor);
+      listener.touchDown(event, 0, 0, 0, 0);
+      // the threshold is checked in real time, while the timescaled time doesn't move
+      for (int i=0; i < 100 && !fired; i++) {
+        Thread.sleep(5);
+        render();
+      }
+    }
+  }
+
+  private static class HeldApp extends HeadlessApp {
+    int base, held, released, fired, removed, leaked;
+    boolean hasFired, hasFiredRemoved;
+
+    private void press(HoldInputListener listener, Actor actor) {
+      InputEvent event = new InputEvent();
+      event.setListenerActor(actor);
+      listener.touchDown(event, 0, 0, 0, 0);
+    }
+
+    private void frames(int n) {
+      for (int i=0; i < n; i++) {
+        render();
+      }
+    }
+
+    @Override protected void run() throws Exception {
+      BenchContext ctx = new BenchContext(this, 0, 0, 0);
+      setContext(ctx);
+      base = updater.size();
+      Actor actor = new Actor();
+      ctx.addToUiLayer(UI_MENUS, actor);
+
+      // registered only while held
+      HoldInputListener listener = new HoldInputListener(60000, () -> hasFired = true);
+      press(listener, actor);
+      held = updater.size();
+      listener.touchUp(null, 0, 0, 0, 0);
+      released = updater.size();
+
+      HoldInputListener instant = new HoldInputListener(0, () -> hasFired = true);
+      press(instant, actor);
+      frames(4);
+      fired = updater.size();
+
+      // no touch up comes once the actor is removed
+      HoldInputListener removedListener = new HoldInputListener(60000, () -> hasFiredRemoved = true);
+      press(removedListener, actor);
+      actor.remove();
+      frames(4);
+      removed = updater.size();
+
+      // the registration doesn't keep a dropped actor, its collection is counted as a leak
+      long leakedBefore = updater.leaked();
+      press(new HoldInputListener(60000, () -> {}), new Actor());
+      for (int i=0; i < 50 && updater.leaked() == leakedBefore; i++) {
+        System.gc();
+        Thread.sleep(10);
+        // past the input phase, which would release it as off the stage
+        updater.update(0, Updater.PRESENTATION, Updater.PRESENTATION);
+      }
+      leaked = (int)(updater.leaked() - leakedBefore);
+    }
+  }
+
+  @Test public void testRegistration() throws Exception {
+    HeldApp app = new HeldApp();
+    app.start();
+    assertEquals(app.base + 1, app.held);
+    assertEquals(app.base, app.released);
+    assertTrue(app.hasFired);
+    assertEquals(app.base, app.fired);
+    assertFalse(app.hasFiredRemoved);
+    assertEquals(app.base, app.removed);
+    assertEquals(1, app.leaked);
+  }
+
+  @Test public void testPaused() throws Exception {
+    PausedApp app = new PausedApp();
+    app.start();
+    assertTrue(app.fired);
+  }
+}
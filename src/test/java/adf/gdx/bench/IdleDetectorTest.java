@@ -0,0 +1,65 @@
+package adf.gdx.bench;
+
+import static adf.gdx.BaseContext.*;
+import static org.junit.Assert.*;
+
+import adf.gdx.IdleDetector;
+
+import aurelienribon.tweenengine.Tween;
+import aurelienribon.tweenengine.primitives.MutableFloat;
+
+import com.badlogic.gdx.Gdx;
+
+import org.junit.Test;
+
+public class IdleDetectorTest {
+  private static class IdleApp extends HeadlessApp {
+    boolean sleptIdle, wokeOnInput, sleptAgain, wokeOnTween, stayedAwake, activityAwake;
+
+    private void frames(int n) {
+      for (int i=0; i < n; i++) {
+        render();
+      }
+    }
+
+    @Override protected void run() {
+      BenchContext ctx = new BenchContext(this, 4, 0, 0);
+      setContext(ctx);
+      idle.enable();
+      frames(idle.sleepAfter);
+      sleptIdle = idle.isSleeping() && !Gdx.graphics.isContinuousRendering();
+
+      idle.touchDown(0, 0, 0, 0);
+      render();
+      wokeOnInput = !idle.isSleeping() && Gdx.graphics.isContinuousRendering();
+      frames(idle.sleepAfter);
+      sleptAgain = idle.isSleeping();
+
+      Tween.to(new MutableFloat(0), 0, 1).target(1).start(ctx.tweens().tweenMgr);
+      render();
+      wokeOnTween = !idle.isSleeping();
+      frames(idle.sleepAfter);
+      stayedAwake = !idle.isSleeping();
+      ctx.tweens().killAll();
+      frames(idle.sleepAfter + 1);
+
+      IdleDetector.Activity activity = () -> true;
+      idle.addActivity(activity);
+      frames(idle.sleepAfter + 1);
+      activityAwake = !idle.isSleeping();
+      idle.removeActivity(activity);
+      idle.disable();
+    }
+  }
+
+  @Test public void testSleep() throws Exception {
+    IdleApp app = new IdleApp();
+    app.start();
+    assertTrue(app.sleptIdle);
+    assertTrue(app.wokeOnInput);
+    assertTrue(app.sleptAgain);
+    assertTrue(app.wokeOnTween);
+    assertTrue(app.stayedAwake);
+    assertTrue(app.activityAwake);
+  }
+}
@@ -0,0 +1,82 @@
+package adf.gdx.bench;
+
+import static adf.gdx.BaseContext.*;
+import static adf.gdx.TweenUtil.fadeActor;
+import static org.junit.Assert.*;
+
+import aurelienribon.tweenengine.Tween;
+import aurelienribon.tweenengine.primitives.MutableFloat;
+
+import com.badlogic.gdx.scenes.scene2d.Actor;
+
+import org.junit.Test;
+
+public class TweenDomainTest {
+  private static class DomainApp extends HeadlessApp {
+    final MutableFloat  hidden  = new MutableFloat(0);
+    final MutableFloat  shown   = new MutableFloat(0);
+    float               hiddenValue;
+    boolean             wasPaused, resumed;
+    int                 sizeAfterDispose;
+
+    @Override protected void run() {
+      BenchContext a = new BenchContext(this, 0, 0, 0);
+      BenchContext b = new BenchContext(this, 0, 0, 0);
+      setContext(a);
+      Tween.to(hidden, 0, 1).target(1).start(a.tweens().tweenMgr);
+      render();
+      setContext(b, false);
+      Tween.to(shown, 0, 1).target(1).start(b.tweens().tweenMgr);
+      hiddenValue = hidden.floatValue();
+      for (int i=0; i < 10; i++) {
+        render();
+      }
+      wasPaused = a.tweens().isPaused() && hidden.floatValue() == hiddenValue;
+      setContext(a, false);
+      render();
+      resumed = !a.tweens().isPaused() && hidden.floatValue() > hiddenValue;
+      setContext(b, false);
+      // disposes of b along with its running tween
+      setContext(a, true);
+      sizeAfterDispose = b.tweens().size();
+    }
+  }
+
+  private static class ActorApp extends HeadlessApp {
+    boolean inContext, detachedInApp;
+    int     sizeAfterDispose;
+
+    @Override protected void run() {
+      BenchContext a = new BenchContext(this, 0, 0, 0);
+      BenchContext b = new BenchContext(this, 0, 0, 0);
+      setContext(a);
+      Actor actor = new Actor(), detached = new Actor();
+      a.addToUiLayer(UI_MENUS, actor);
+      fadeActor(actor, 0, 1);
+      fadeActor(detached, 0, 1);
+      inContext = a.tweens().tweenMgr.containsTarget(actor) && !appTweenMgr.containsTarget(actor);
+      detachedInApp = appTweenMgr.containsTarget(detached);
+      appTweenMgr.killTarget(detached);
+      // disposes of a along with the fade of its actor
+      setContext(b, true);
+      sizeAfterDispose = a.tweens().size();
+    }
+  }
+
+  @Test public void testHiddenDomain() throws Exception {
+    DomainApp app = new DomainApp();
+    app.start();
+    assertTrue(app.shown.floatValue() > 0);
+    assertTrue(app.wasPaused);
+    assertTrue(app.resumed);
+    assertEquals(0, app.sizeAfterDispose);
+  }
+
+  @Test public void testActorDomain() throws Exception {
+    ActorApp app = new ActorApp();
+    app.start();
+    assertTrue(app.inContext);
+    assertTrue(app.detachedInApp);
+    assertEquals(0, app.sizeAfterDispose);
+  }
+}
@@ -0,0 +1,31 @@
+package adf.gdx.thirdparty;
+
+import static org.junit.Assert.*;
+
+import adf.gdx.utils.Soft;
+
+import org.junit.Test;
+
+public class BezierEasingTest {
+  @Test public void testLutError() {
+    for (BezierEasing easing : new BezierEasing[] {Soft.inout, Soft.in, Soft.out}) {
+      assertTrue(easing.isLut());
+      assertTrue(easing.lutError() < 5e-5f);
+      for (int i=0; i <= 1000; i++) {
+        float x = i / 1000f;
+        assertEquals(easing.solve(x), easing.ease(x), easing.lutError());
+      }
+      assertEquals(0, easing.ease(0), 0);
+      assertEquals(1, easing.ease(1), 0);
+    }
+  }
+
+  @Test public void testResolution() {
+    BezierEasing coarse = new BezierEasing(.25f, .1f, .25f, 1).useLut(16);
+    BezierEasing fine = new BezierEasing(.25f, .1f, .25f, 1).useLut(1024);
+    assertTrue(fine.lutError() < coarse.lutError());
+    fine.disableLut();
+    assertFalse(fine.isLut());
+    assertEquals(fine.solve(.3f), fine.ease(.3f), 0);
+  }
+}